@@ -0,0 +1,350 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
+
+/**
+ * The parts of the application below the UI: the config, storage, model and logic.
+ * Setting them up needs no JavaFX toolkit, so they are shared by the GUI and the headless mode.
+ */
+public class AppComponents {
+
+    public static final long BACKGROUND_TASK_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final ExecutorService backgroundTaskExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private WatchedAddressBookStorage watchedAddressBookStorage;
+    private WriteBehindAddressBookStorage writeBehindAddressBookStorage;
+
+    /**
+     * Sets up the components with the config file at {@code configFilePath}, or the default config file if it is
+     * null.
+     */
+    public AppComponents(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public WatchedAddressBookStorage getWatchedAddressBookStorage() {
+        return watchedAddressBookStorage;
+    }
+
+    public WriteBehindAddressBookStorage getWriteBehindAddressBookStorage() {
+        return writeBehindAddressBookStorage;
+    }
+
+    /**
+     * Returns the executor that runs the background tasks of commands, e.g. exports. The tasks are waited for,
+     * or cancelled, when the components are stopped.
+     */
+    public Executor getBackgroundTaskExecutor() {
+        return backgroundTaskExecutor;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, set up according to
+     * the storage settings in {@code userPrefs}.
+     * If there is no data file in the current format yet, or the storage settings ask for it, the data saved in
+     * another format is converted to the current settings first. A conversion asked for in the storage settings
+     * is then removed from {@code userPrefs}, which are saved to {@code userPrefsStorage} straight away.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        int compressionLevel = storageSettings.getCompressionLevel();
+        if (!JsonUtil.isValidCompressionLevel(compressionLevel)) {
+            logger.warning(JsonUtil.MESSAGE_INVALID_COMPRESSION_LEVEL + " Writing the data file uncompressed.");
+            compressionLevel = JsonUtil.NO_COMPRESSION;
+        }
+        int shardCount = storageSettings.getShardCount();
+        if (shardCount <= 0) {
+            logger.warning(ShardedAddressBookStorage.MESSAGE_INVALID_SHARD_COUNT + " Using the default shard count.");
+            shardCount = ShardedAddressBookStorage.DEFAULT_SHARD_COUNT;
+        }
+
+        Map<DataFormat, AddressBookStorage> storages = new EnumMap<>(DataFormat.class);
+        for (DataFormat dataFormat : DataFormat.values()) {
+            storages.put(dataFormat, createAddressBookStorage(dataFormat, jsonFilePath, storageSettings,
+                    compressionLevel, shardCount));
+        }
+        AddressBookStorage addressBookStorage = storages.remove(storageSettings.getDataFormat());
+        try {
+            Optional<DataFormat> convertFrom = storageSettings.getConvertFrom();
+            if (convertFrom.isPresent()) {
+                AddressBookStorage source = storages.get(convertFrom.get());
+                if (source == null || !AddressBookConverter.convert(source, addressBookStorage)) {
+                    logger.warning("No address book in " + convertFrom.get() + " format to convert from");
+                }
+                // The conversion was asked for once, so it is not repeated at the next start, even if the app
+                // does not get to save the preferences when it stops.
+                userPrefs.setStorageSettings(storageSettings.withoutConvertFrom());
+                saveUserPrefs(userPrefsStorage, userPrefs);
+            } else {
+                AddressBookConverter.convertIfMissing(storages.values(), addressBookStorage);
+            }
+            if (!storageSettings.isJournalEnabled()) {
+                AddressBookConverter.foldJournal(addressBookStorage);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Address book could not be converted to the current storage settings: "
+                    + StringUtil.getDetails(e));
+        }
+
+        JournaledAddressBookStorage journaledStorage = null;
+        if (storageSettings.isJournalEnabled() && storageSettings.getDataFormat() == DataFormat.SHARDED) {
+            // Sharded storage already writes only the changed part of the address book.
+            logger.info("Journaling is not used with the sharded format");
+        } else if (storageSettings.isJournalEnabled()) {
+            logger.info("Using journaled storage for " + addressBookStorage.getAddressBookFilePath());
+            journaledStorage = new JournaledAddressBookStorage(addressBookStorage);
+            addressBookStorage = journaledStorage;
+        }
+
+        // Changes by other programs are read with a storage of their own, so the state of the storage above,
+        // such as the journal baseline or the persisted shards, is left alone.
+        AddressBookStorage externalReader = createAddressBookStorage(storageSettings.getDataFormat(), jsonFilePath,
+                storageSettings, compressionLevel, shardCount);
+        watchedAddressBookStorage = new WatchedAddressBookStorage(addressBookStorage, externalReader);
+        if (journaledStorage != null) {
+            journaledStorage.setDataFileWriteGuard(watchedAddressBookStorage::guardDataFileWrite);
+        }
+        writeBehindAddressBookStorage = new WriteBehindAddressBookStorage(watchedAddressBookStorage);
+        return writeBehindAddressBookStorage;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} that keeps the address book in {@code dataFormat}, next to the JSON
+     * data file at {@code jsonFilePath}.
+     */
+    private static AddressBookStorage createAddressBookStorage(DataFormat dataFormat, Path jsonFilePath,
+            StorageSettings storageSettings, int compressionLevel, int shardCount) {
+        return switch (dataFormat) {
+        case JSON -> new JsonAddressBookStorage(jsonFilePath, storageSettings.isCompactJson(), compressionLevel);
+        case BINARY -> new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath),
+                storageSettings.isLazyLoadingEnabled());
+        case SHARDED -> new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestFilePath(jsonFilePath),
+                shardCount);
+        };
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    private static void saveUserPrefs(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops watching the data file, and saves the address book and user prefs.
+     */
+    public void stop() {
+        stopBackgroundTasks();
+        watchedAddressBookStorage.stopWatching();
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Waits for the queued background tasks to finish, for at most {@value #BACKGROUND_TASK_TIMEOUT_SECONDS}
+     * seconds, and then cancels the ones still running.
+     */
+    private void stopBackgroundTasks() {
+        backgroundTaskExecutor.shutdown();
+        try {
+            if (backgroundTaskExecutor.awaitTermination(BACKGROUND_TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+            logger.warning("Cancelling background tasks that did not finish within " + BACKGROUND_TASK_TIMEOUT_SECONDS
+                    + " seconds");
+            backgroundTaskExecutor.shutdownNow();
+            if (!backgroundTaskExecutor.awaitTermination(BACKGROUND_TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Background tasks did not stop after being cancelled");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            backgroundTaskExecutor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +18,20 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String CONFIG_PARAMETER_PREFIX = "--config=";
+    public static final String HEADLESS_PARAMETER = "--headless";
+    public static final String EXEC_PARAMETER = "--exec";
+    public static final String SCRIPT_PARAMETER = "--script";
+    public static final String API_PORT_PARAMETER_PREFIX = "--api-port=";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private boolean isHeadless;
+    private List<String> commands = new ArrayList<>();
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +41,50 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run commands without its GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the commands given with {@code --exec}, in order.
+     */
+    public List<String> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    public void addCommand(String command) {
+        commands.add(command);
+    }
+
+    /**
+     * Returns the file given with {@code --script}, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port given with {@code --api-port}, or null if the API server should not be started.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -34,14 +92,70 @@ public class AppParameters {
         AppParameters appParameters = new AppParameters();
         Map<String, String> namedParameters = parameters.getNamed();
 
-        String configPathParameter = namedParameters.get("config");
+        appParameters.setConfigPath(parseConfigPath(namedParameters.get("config")));
+        appParameters.setApiPort(parseApiPort(namedParameters.get("api-port")));
+
+        return appParameters;
+    }
+
+    /**
+     * Parses the raw command-line {@code arguments}, which may also ask for the headless mode:
+     * {@code --headless} on its own, or any number of {@code --exec COMMAND} and a {@code --script FILE}.
+     */
+    public static AppParameters parse(List<String> arguments) {
+        AppParameters appParameters = new AppParameters();
+        for (int i = 0; i < arguments.size(); i++) {
+            String argument = arguments.get(i);
+            boolean hasValue = i + 1 < arguments.size();
+            if (argument.startsWith(CONFIG_PARAMETER_PREFIX)) {
+                appParameters.setConfigPath(parseConfigPath(argument.substring(CONFIG_PARAMETER_PREFIX.length())));
+            } else if (argument.startsWith(API_PORT_PARAMETER_PREFIX)) {
+                appParameters.setApiPort(parseApiPort(argument.substring(API_PORT_PARAMETER_PREFIX.length())));
+            } else if (argument.equals(HEADLESS_PARAMETER)) {
+                appParameters.setHeadless(true);
+            } else if (argument.equals(EXEC_PARAMETER) && hasValue) {
+                appParameters.setHeadless(true);
+                appParameters.addCommand(arguments.get(++i));
+            } else if (argument.equals(SCRIPT_PARAMETER) && hasValue) {
+                appParameters.setHeadless(true);
+                appParameters.setScriptPath(parseScriptPath(arguments.get(++i)));
+            } else {
+                logger.warning("Ignoring unknown or incomplete parameter " + argument);
+            }
+        }
+        return appParameters;
+    }
+
+    private static Path parseConfigPath(String configPathParameter) {
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
             configPathParameter = null;
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        return configPathParameter != null ? Paths.get(configPathParameter) : null;
+    }
 
-        return appParameters;
+    private static Integer parseApiPort(String apiPortParameter) {
+        if (apiPortParameter == null) {
+            return null;
+        }
+        try {
+            int apiPort = Integer.parseInt(apiPortParameter.trim());
+            if (apiPort >= 0 && apiPort <= MAX_PORT) {
+                return apiPort;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, as for a port out of range.
+        }
+        logger.warning("Invalid API port " + apiPortParameter + ". The API server will not be started.");
+        return null;
+    }
+
+    private static Path parseScriptPath(String scriptPathParameter) {
+        if (!FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Ignoring the script.");
+            return null;
+        }
+        return Paths.get(scriptPathParameter);
     }
 
     @Override
@@ -56,18 +170,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && commands.equals(otherAppParameters.commands)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, commands, scriptPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("commands", commands)
+                .add("scriptPath", scriptPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands without the GUI, e.g. from scheduled jobs and pipelines. No JavaFX toolkit is started.
+ * <p>
+ * The commands given with {@code --exec} run first, then those in the {@code --script} file, one per line. If
+ * neither is given, the commands are read from standard input instead. Blank lines and lines starting with
+ * {@code #} are skipped. The feedback of each command is written to standard output, and the errors to standard
+ * error. Running stops early at an {@code exit} command.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_STATUS_SUCCESS = 0;
+    public static final int EXIT_STATUS_COMMAND_FAILED = 1;
+    public static final int EXIT_STATUS_SCRIPT_UNREADABLE = 2;
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+    private boolean hasFailedCommand;
+    private boolean isExitRequested;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands with {@code logic}, writing their feedback to {@code out}
+     * and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Sets up the application as given by {@code appParameters}, runs its commands, and saves the data.
+     *
+     * @return the exit status for the process.
+     */
+    public static int run(AppParameters appParameters, InputStream in, PrintStream out, PrintStream err) {
+        logger.info("=============================[ Running AcademySource headless ]=======================");
+        AppComponents components = new AppComponents(appParameters.getConfigPath());
+        try {
+            return new HeadlessApp(components.getLogic(), out, err).run(appParameters, in);
+        } finally {
+            components.stop();
+        }
+    }
+
+    /**
+     * Runs the commands given by {@code appParameters}, or read from {@code in} if it gives none.
+     *
+     * @return the exit status for the process.
+     */
+    public int run(AppParameters appParameters, InputStream in) {
+        for (String command : appParameters.getCommands()) {
+            if (isExitRequested) {
+                break;
+            }
+            execute(command);
+        }
+
+        try {
+            if (appParameters.getScriptPath() != null) {
+                try (BufferedReader reader = Files.newBufferedReader(appParameters.getScriptPath(),
+                        StandardCharsets.UTF_8)) {
+                    executeAll(reader);
+                }
+            } else if (appParameters.getCommands().isEmpty()) {
+                executeAll(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read commands: " + StringUtil.getDetails(e));
+            err.println("Could not read commands: " + e.getMessage());
+            return EXIT_STATUS_SCRIPT_UNREADABLE;
+        }
+        return hasFailedCommand ? EXIT_STATUS_COMMAND_FAILED : EXIT_STATUS_SUCCESS;
+    }
+
+    /**
+     * Executes the commands in {@code reader}, one per line, until it ends or a command asks to exit.
+     */
+    private void executeAll(BufferedReader reader) throws IOException {
+        for (String line = reader.readLine(); line != null && !isExitRequested; line = reader.readLine()) {
+            String command = line.trim();
+            if (command.isEmpty() || command.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            execute(command);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and writes its feedback, waiting for any work it left to do in the background.
+     */
+    private void execute(String commandText) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            out.println(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(task -> out.println(task.run(out::println)));
+            isExitRequested = commandResult.isExit();
+        } catch (CommandException | ParseException e) {
+            hasFailedCommand = true;
+            err.println(e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,19 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also runs the application headless, without starting JavaFX at all, when asked to by the parameters.
+ *
+ * @see AppParameters#parse(java.util.List)
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.run(appParameters, System.in, System.out, System.err));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
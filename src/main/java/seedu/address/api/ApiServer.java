@@ -0,0 +1,344 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * A local HTTP server that lets other programs look up contacts, and run commands, as JSON.
+ * <p>
+ * The server only listens on the loopback address. It serves these requests:
+ * <ul>
+ * <li>{@code GET /api/persons?FIELD=KEYWORDS...}: the persons that match, as for the find command, e.g.
+ *     {@code ?name=alice&module=CS2103T}. Without parameters, all persons.</li>
+ * <li>{@code GET /api/persons/count?FIELD=KEYWORDS...}: the number of persons that match.</li>
+ * <li>{@code GET /api/persons/NAME}: the person with that name.</li>
+ * <li>{@code POST /api/commands}: runs the command in the request body, and returns its feedback.</li>
+ * </ul>
+ * Queries are served by a pool of threads, each from one snapshot of the address book, so a query never sees a
+ * change halfway. Commands are handed to the single thread that changes the model, and run in turn with the
+ * commands entered in the app. Work that a command leaves to be done in the background, such as writing an export,
+ * is run on the app's background task executor, and the response gives its outcome once it is done.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String COUNT_PATH = PERSONS_PATH + "/count";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final long COMMAND_TIMEOUT_SECONDS = 30;
+    public static final long BACKGROUND_TASK_TIMEOUT_SECONDS = 300;
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown search field %1$s. Fields: %2$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no person named %1$s";
+    public static final String MESSAGE_INVALID_NAME = "Invalid name %1$s";
+    public static final String MESSAGE_NOT_FOUND = "Not found";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed";
+    public static final String MESSAGE_COMMAND_TIMED_OUT = "The command did not complete in time";
+    public static final String MESSAGE_BACKGROUND_TASK_TIMED_OUT =
+            "The command did not complete in time, and continues in the background";
+    public static final String MESSAGE_BACKGROUND_TASK_REJECTED = "The app is shutting down";
+    public static final String MESSAGE_COMMAND_ERROR = "The command could not be run";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private final Supplier<ReadOnlyAddressBook> snapshots;
+    private final CommandSubmitter commandSubmitter;
+    private final Executor backgroundTaskExecutor;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if {@code port} is 0,
+     * which serves queries from {@code snapshots} on {@code threadCount} threads, runs commands with
+     * {@code commandSubmitter}, and runs the background tasks of commands with {@code backgroundTaskExecutor}.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(int port, int threadCount, Supplier<ReadOnlyAddressBook> snapshots,
+            CommandSubmitter commandSubmitter, Executor backgroundTaskExecutor) throws IOException {
+        requireNonNull(snapshots);
+        requireNonNull(commandSubmitter);
+        requireNonNull(backgroundTaskExecutor);
+        this.snapshots = snapshots;
+        this.commandSubmitter = commandSubmitter;
+        this.backgroundTaskExecutor = backgroundTaskExecutor;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        handlers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "api-server-" + ApiServer.threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlers);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, this::handlePersons));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommand));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops serving requests, and waits briefly for those being served to complete.
+     */
+    public void stop() {
+        server.stop(1);
+        handlers.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange, RequestHandler handler) throws IOException {
+        Response response;
+        try {
+            response = handler.handle(exchange);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            response = Response.error(STATUS_INTERNAL_ERROR, e.getMessage());
+        }
+
+        byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private Response handlePersons(HttpExchange exchange) {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return Response.error(STATUS_METHOD_NOT_ALLOWED, MESSAGE_METHOD_NOT_ALLOWED);
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+            return findPersons(exchange.getRequestURI().getRawQuery(), false);
+        }
+        if (path.equals(COUNT_PATH)) {
+            return findPersons(exchange.getRequestURI().getRawQuery(), true);
+        }
+        if (path.startsWith(PERSONS_PATH + "/")) {
+            return getPerson(path.substring(PERSONS_PATH.length() + 1));
+        }
+        return Response.error(STATUS_NOT_FOUND, MESSAGE_NOT_FOUND);
+    }
+
+    private Response findPersons(String rawQuery, boolean isCountOnly) {
+        Map<SearchField, List<String>> fieldKeywordMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> parameter : parseQuery(rawQuery)) {
+            Optional<SearchField> searchField = Arrays.stream(SearchField.values())
+                    .filter(field -> field.name().equalsIgnoreCase(parameter.getKey()))
+                    .findFirst();
+            if (searchField.isEmpty()) {
+                String fields = Arrays.stream(SearchField.values())
+                        .map(field -> field.name().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.joining(", "));
+                return Response.error(STATUS_BAD_REQUEST, String.format(MESSAGE_UNKNOWN_FIELD, parameter.getKey(),
+                        fields));
+            }
+            List<String> keywords = Arrays.stream(parameter.getValue().trim().split("\\s+"))
+                    .filter(keyword -> !keyword.isEmpty())
+                    .toList();
+            fieldKeywordMap.computeIfAbsent(searchField.get(), unused -> new ArrayList<>()).addAll(keywords);
+        }
+
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(fieldKeywordMap);
+        List<Person> persons = snapshots.get().getPersonList();
+        if (isCountOnly) {
+            return Response.ok("count", persons.stream().filter(predicate).count());
+        }
+        return Response.ok("persons", persons.stream()
+                .filter(predicate)
+                .map(JsonAdaptedPerson::new)
+                .toList());
+    }
+
+    private Response getPerson(String rawName) {
+        String fullName = URLDecoder.decode(rawName, StandardCharsets.UTF_8);
+        if (!Name.isValidName(fullName)) {
+            return Response.error(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_NAME, fullName));
+        }
+
+        Name name = new Name(fullName);
+        return snapshots.get().getPersonList().stream()
+                .filter(person -> person.getName().equals(name))
+                .findFirst()
+                .map(person -> Response.ok("person", new JsonAdaptedPerson(person)))
+                .orElseGet(() -> Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_PERSON_NOT_FOUND, fullName)));
+    }
+
+    private Response handleCommand(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            return Response.error(STATUS_METHOD_NOT_ALLOWED, MESSAGE_METHOD_NOT_ALLOWED);
+        }
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            return Response.error(STATUS_NOT_FOUND, MESSAGE_NOT_FOUND);
+        }
+
+        String commandText;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            commandText = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        try {
+            CommandResult commandResult = commandSubmitter.submit(commandText)
+                    .get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Optional<BackgroundTask> backgroundTask = commandResult.getBackgroundTask();
+            if (backgroundTask.isPresent()) {
+                return runInBackground(backgroundTask.get());
+            }
+            return Response.ok("feedback", commandResult.getFeedbackToUser());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                return Response.error(STATUS_BAD_REQUEST, cause.getMessage());
+            }
+            logger.warning("Command " + commandText + " failed: " + StringUtil.getDetails(cause));
+            return Response.error(STATUS_INTERNAL_ERROR, MESSAGE_COMMAND_ERROR);
+        } catch (TimeoutException e) {
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_COMMAND_TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_COMMAND_TIMED_OUT);
+        }
+    }
+
+    /**
+     * Runs {@code task} with the background task executor, and returns its outcome once it is done.
+     */
+    private Response runInBackground(BackgroundTask task) {
+        try {
+            String feedback = CompletableFuture.supplyAsync(() -> task.run(progress -> { }), backgroundTaskExecutor)
+                    .get(BACKGROUND_TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            logger.info("Background task result: " + feedback);
+            return Response.ok("feedback", feedback);
+        } catch (RejectedExecutionException e) {
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_BACKGROUND_TASK_REJECTED);
+        } catch (ExecutionException e) {
+            logger.warning("Background task failed: " + StringUtil.getDetails(e.getCause()));
+            return Response.error(STATUS_INTERNAL_ERROR, MESSAGE_COMMAND_ERROR);
+        } catch (TimeoutException e) {
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_BACKGROUND_TASK_TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_BACKGROUND_TASK_TIMED_OUT);
+        }
+    }
+
+    /**
+     * Returns the decoded name and value of each parameter in {@code rawQuery}, in order.
+     */
+    private static List<Map.Entry<String, String>> parseQuery(String rawQuery) {
+        List<Map.Entry<String, String>> parameters = new ArrayList<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+            parameters.add(Map.entry(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8)));
+        }
+        return parameters;
+    }
+
+    /**
+     * Runs commands on the thread that changes the model.
+     */
+    @FunctionalInterface
+    public interface CommandSubmitter {
+        /**
+         * Queues {@code commandText} to be run, and returns its result once it has run.
+         *
+         * @see seedu.address.logic.Logic#execute(String)
+         */
+        CompletableFuture<CommandResult> submit(String commandText);
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Map<String, Object> body;
+
+        private Response(int status, String key, Object value) {
+            this.status = status;
+            this.body = Map.of(key, value);
+        }
+
+        static Response ok(String key, Object value) {
+            return new Response(STATUS_OK, key, value);
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, "error", String.valueOf(message));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the address book storage.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * The file formats that the address book can be stored in.
+     */
+    public enum DataFormat {
+        JSON, BINARY, SHARDED
+    }
+
+    private final DataFormat dataFormat;
+    private final boolean isJournalEnabled;
+    private final boolean isCompactJson;
+    private final boolean isLazyLoadingEnabled;
+    private final int compressionLevel;
+    private final int shardCount;
+    // The format to convert the address book from at the next start, or null to only convert when the data file
+    // of the current format is missing.
+    private final DataFormat convertFrom;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default settings.
+     */
+    public StorageSettings() {
+        dataFormat = DataFormat.JSON;
+        isJournalEnabled = false;
+        isCompactJson = false;
+        isLazyLoadingEnabled = false;
+        compressionLevel = 0;
+        shardCount = 16;
+        convertFrom = null;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified settings.
+     *
+     * @param dataFormat the file format of the address book.
+     * @param isJournalEnabled whether changes are appended to a journal instead of rewriting the data file.
+     * @param isCompactJson whether the data file is written without indentation and line breaks.
+     * @param isLazyLoadingEnabled whether contact details are only loaded when first needed. Binary format only.
+     * @param compressionLevel the gzip compression level from 1 to 9, or 0 for no compression. JSON format only.
+     * @param shardCount the number of files the address book is split into. Sharded format only.
+     * @param convertFrom the format to convert the address book from at the next start, even if there is already
+     *     a data file in {@code dataFormat}, or null if none.
+     */
+    public StorageSettings(DataFormat dataFormat, boolean isJournalEnabled, boolean isCompactJson,
+            boolean isLazyLoadingEnabled, int compressionLevel, int shardCount, DataFormat convertFrom) {
+        this.dataFormat = dataFormat;
+        this.isJournalEnabled = isJournalEnabled;
+        this.isCompactJson = isCompactJson;
+        this.isLazyLoadingEnabled = isLazyLoadingEnabled;
+        this.compressionLevel = compressionLevel;
+        this.shardCount = shardCount;
+        this.convertFrom = convertFrom;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public boolean isLazyLoadingEnabled() {
+        return isLazyLoadingEnabled;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public Optional<DataFormat> getConvertFrom() {
+        return Optional.ofNullable(convertFrom);
+    }
+
+    /**
+     * Returns a copy of these settings that no longer asks for the address book to be converted.
+     */
+    public StorageSettings withoutConvertFrom() {
+        return new StorageSettings(dataFormat, isJournalEnabled, isCompactJson, isLazyLoadingEnabled,
+                compressionLevel, shardCount, null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return dataFormat == otherStorageSettings.dataFormat
+                && isJournalEnabled == otherStorageSettings.isJournalEnabled
+                && isCompactJson == otherStorageSettings.isCompactJson
+                && isLazyLoadingEnabled == otherStorageSettings.isLazyLoadingEnabled
+                && compressionLevel == otherStorageSettings.compressionLevel
+                && shardCount == otherStorageSettings.shardCount
+                && convertFrom == otherStorageSettings.convertFrom;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataFormat, isJournalEnabled, isCompactJson, isLazyLoadingEnabled, compressionLevel,
+                shardCount, convertFrom);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("dataFormat", dataFormat)
+                .add("isJournalEnabled", isJournalEnabled)
+                .add("isCompactJson", isCompactJson)
+                .add("isLazyLoadingEnabled", isLazyLoadingEnabled)
+                .add("compressionLevel", compressionLevel)
+                .add("shardCount", shardCount)
+                .add("convertFrom", convertFrom)
+                .toString();
+    }
+}
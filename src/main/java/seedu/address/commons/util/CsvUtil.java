@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing lines of comma-separated values.
+ * Fields that contain commas or quotes are enclosed in double quotes, with any double quote inside doubled,
+ * as described in RFC 4180. Fields cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by other text.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits a line of comma-separated values into its fields.
+     *
+     * @throws IllegalValueException if a quoted field is malformed.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Appends the content of the quoted field starting after the opening quote at {@code start} to {@code field},
+     * and returns the position after the closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Returns {@code fields} as a line of comma-separated values, without a line break.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean isQuoteNeeded = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1
+                || (!field.isEmpty() && (Character.isWhitespace(field.charAt(0))
+                        || Character.isWhitespace(field.charAt(field.length() - 1))));
+        if (!isQuoteNeeded) {
+            line.append(field);
+            return;
+        }
+
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+}
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,8 +42,15 @@ import seedu.address.commons.exceptions.DataLoadingException;
  */
 public class JsonUtil {
 
+    public static final int NO_COMPRESSION = Deflater.NO_COMPRESSION;
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL = "Compression level should be between "
+            + NO_COMPRESSION + " and " + Deflater.BEST_COMPRESSION + ".";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PRETTY_PRINT_INDENT = "  ";
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -111,6 +132,125 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that streams the JSON data in the given file.
+     * The file may be gzip-compressed, which is detected from its content.
+     * Objects can be read from the parser one at a time with {@link JsonParser#readValueAs(Class)}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            if (isGzipCompressed(in)) {
+                in = new GZIPInputStream(in, BUFFER_SIZE);
+            }
+            return objectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a generator that streams JSON data into the given file, replacing any existing content.
+     * Objects can be written to the generator one at a time with {@link JsonGenerator#writeObject(Object)}.
+     * The caller is responsible for closing the generator, which also closes the file.
+     *
+     * @param filePath cannot be null.
+     * @param isCompact whether the output should be written without indentation and line breaks.
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isCompact) throws IOException {
+        return createJsonGenerator(filePath, isCompact, NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path, boolean)}, but compresses the output with gzip if
+     * {@code compressionLevel} is greater than {@link #NO_COMPRESSION}.
+     *
+     * @param compressionLevel a level from {@link #NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isCompact, int compressionLevel)
+            throws IOException {
+        requireNonNull(filePath);
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_INVALID_COMPRESSION_LEVEL);
+
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+        if (compressionLevel > NO_COMPRESSION) {
+            out = new LeveledGzipOutputStream(out, compressionLevel);
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns the JSON text of {@code instance} as a generator from {@link #createJsonGenerator(Path, boolean)}
+     * would write it inside {@code depth} levels of enclosing objects. The text can then be written to such a
+     * generator again and again with {@link JsonGenerator#writeRawValue(String)}, without encoding the instance
+     * each time.
+     *
+     * @param isCompact whether the text should be written without indentation and line breaks.
+     */
+    public static String toJsonFragment(Object instance, boolean isCompact, int depth)
+            throws JsonProcessingException {
+        if (isCompact) {
+            return objectMapper.writeValueAsString(instance);
+        }
+
+        // Every line break is followed by the indentation of the enclosing objects.
+        StringBuilder lineBreak = new StringBuilder(DefaultIndenter.SYS_LF);
+        for (int i = 0; i < depth; i++) {
+            lineBreak.append(PRETTY_PRINT_INDENT);
+        }
+        PrettyPrinter prettyPrinter = new DefaultPrettyPrinter()
+                .withObjectIndenter(new DefaultIndenter(PRETTY_PRINT_INDENT, lineBreak.toString()));
+        return objectMapper.writer(prettyPrinter).writeValueAsString(instance);
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} can be used with {@link #createJsonGenerator(Path, boolean, int)}.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic number, without consuming any data.
+     */
+    private static boolean isGzipCompressed(InputStream in) throws IOException {
+        in.mark(2);
+        int firstByte = in.read();
+        int secondByte = in.read();
+        in.reset();
+        return firstByte == (GZIPInputStream.GZIP_MAGIC & 0xff) && secondByte == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    /**
+     * A {@code GZIPOutputStream} with a configurable compression level.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
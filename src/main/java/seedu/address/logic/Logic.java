@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
@@ -8,6 +9,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -24,6 +26,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Merges changes that another program made to the data file into the address book.
+     *
+     * @param delta the changes found in the data file.
+     * @return the feedback to show to the user.
+     * @see seedu.address.model.Model#mergeAddressBookDelta(AddressBookDelta)
+     */
+    String mergeExternalChanges(AddressBookDelta delta);
+
+    /**
+     * Saves the address book if it has changed since it was last saved, e.g. because the last save failed.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    void saveUnsavedChanges() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -31,6 +49,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the AddressBook. Can be called on any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -14,8 +18,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -28,11 +34,17 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_EXTERNAL_CHANGES_MERGED =
+            "The data file was changed by another program. %1$d change(s) loaded.";
+    public static final String MESSAGE_EXTERNAL_CHANGES_CONFLICTED = "%1$d change(s) to the data file by another "
+            + "program were not loaded, as these persons were also changed here: %2$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedGeneration;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,25 +53,78 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedGeneration = model.getAddressBookGeneration();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            // What a command changed before it failed, e.g. the rows an import added before a read error, stays in
+            // the model. It is undone as one step and saved like the changes of a successful command.
+            model.commitAddressBook();
+            try {
+                saveChanges();
+            } catch (CommandException saveException) {
+                logger.warning("Failed to save the changes of a failed command: " + saveException.getMessage());
+                e.addSuppressed(saveException);
+            }
+            throw e;
+        }
 
+        // Whatever a command changed is undone as one step.
+        model.commitAddressBook();
+        saveChanges();
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     */
+    private void saveChanges() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveUnsavedChanges();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public String mergeExternalChanges(AddressBookDelta delta) {
+        requireNonNull(delta);
+        boolean isSaved = model.getAddressBookGeneration() == savedGeneration;
+        List<Name> conflicts = model.mergeAddressBookDelta(delta);
+        model.commitAddressBook();
+        if (conflicts.isEmpty()) {
+            // The model now holds what is in the data file, unless it had changes that were not saved yet.
+            if (isSaved) {
+                savedGeneration = model.getAddressBookGeneration();
+            }
+            return String.format(MESSAGE_EXTERNAL_CHANGES_MERGED, delta.size());
+        }
+
+        String conflictingNames = conflicts.stream().map(Name::toString).collect(Collectors.joining(", "));
+        logger.info("External changes to " + conflictingNames + " conflicted with changes in the app");
+        return String.format(MESSAGE_EXTERNAL_CHANGES_MERGED, delta.size() - conflicts.size()) + "\n"
+                + String.format(MESSAGE_EXTERNAL_CHANGES_CONFLICTED, conflicts.size(), conflictingNames);
+    }
+
+    @Override
+    public void saveUnsavedChanges() throws IOException {
+        // Read-only commands (e.g. find, list) leave the generation untouched, so there is nothing to save.
+        long generation = model.getAddressBookGeneration();
+        if (generation == savedGeneration) {
+            return;
+        }
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+        savedGeneration = generation;
     }
 
     @Override
@@ -67,6 +132,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,19 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+/**
+ * Work that a command leaves to be done after it returns, e.g. writing a large file, so that the UI stays
+ * responsive while the work is done on another thread.
+ * A task must not access the model, as the model is only safe to use from the thread that executes commands.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Does the work, passing feedback on its progress to {@code progressListener} now and then.
+     *
+     * @return the feedback to show to the user when the work is done, or has failed.
+     */
+    String run(Consumer<String> progressListener);
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +20,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work to be continued in the background, or null if there is none. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +30,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundTask = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code backgroundTask},
+     * and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundTask = requireNonNull(backgroundTask);
     }
 
     /**
@@ -48,6 +64,14 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the work that the command left to be done in the background.
+     * Tasks are not compared when comparing results.
+     */
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -51,9 +51,7 @@ public class DeleteCommand extends Command {
             deletedPersonList.add(personToDelete);
         }
 
-        for (Person personToDelete : deletedPersonList) {
-            model.deletePerson(personToDelete);
-        }
+        model.deletePersons(deletedPersonList);
 
         String deletedPersonNames = deletedPersonList.stream()
                 .map(Person::getName)
@@ -0,0 +1,242 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.ModuleRegistry.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Writes the persons in the displayed person list, or all persons, to a CSV or vCard file.
+ * <p>
+ * The command itself only takes a copy of the list, which holds the same immutable persons. The file is written by
+ * a {@link BackgroundTask}, one person at a time through a buffered writer, so neither the UI nor memory is held up
+ * by the size of the export. The file is written under a temporary name and renamed when done, so an unfinished
+ * export never replaces an earlier one.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the persons in the displayed person list "
+            + "to a CSV (.csv) or vCard (.vcf) file. "
+            + "Starting with '" + ALL_KEYWORD + "' writes all persons instead.\n"
+            + "Parameters: [" + ALL_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " data/contacts.vcf";
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file should end with .csv or .vcf.";
+    public static final String MESSAGE_STARTED = "Exporting %1$d persons to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s: %2$d of %3$d persons written...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s.";
+    public static final String MESSAGE_FAILED = "Could not export to %1$s: %2$s";
+    public static final String MESSAGE_CANCELLED = "Export to %1$s was cancelled.";
+
+    static final int PROGRESS_INTERVAL = 10000;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * The file formats that persons can be exported to.
+     */
+    public enum Format {
+        CSV(".csv") {
+            @Override
+            void writeHeader(Writer writer) throws IOException {
+                writer.write(CsvUtil.toLine(CsvPersonParser.COLUMNS));
+                writer.write(System.lineSeparator());
+            }
+
+            @Override
+            void writePerson(Writer writer, Person person) throws IOException {
+                // Same columns as CsvPersonParser.COLUMNS, so that an exported file can be imported again
+                List<String> fields = List.of(person.getName().fullName, person.getPhone().value,
+                        person.getEmail().value, person.getRole().roleName, joinModuleCodes(person, ";"),
+                        person.getTelegram().map(Telegram::toString).orElse(""),
+                        person.getIsFavourite() ? "y" : "n");
+                writer.write(CsvUtil.toLine(fields));
+                writer.write(System.lineSeparator());
+            }
+        },
+        VCARD(".vcf") {
+            @Override
+            void writePerson(Writer writer, Person person) throws IOException {
+                String name = escapeVcardText(person.getName().fullName);
+                writer.write("BEGIN:VCARD\r\n");
+                writer.write("VERSION:3.0\r\n");
+                writer.write("FN:" + name + "\r\n");
+                writer.write("N:;" + name + ";;;\r\n");
+                writer.write("TEL:" + escapeVcardText(person.getPhone().value) + "\r\n");
+                writer.write("EMAIL:" + escapeVcardText(person.getEmail().value) + "\r\n");
+                writer.write("TITLE:" + escapeVcardText(person.getRole().toString()) + "\r\n");
+                writer.write("CATEGORIES:" + joinModuleCodes(person, ",") + "\r\n");
+                if (person.hasTelegram()) {
+                    writer.write("X-TELEGRAM:" + escapeVcardText(person.getTelegram().get().toString()) + "\r\n");
+                }
+                writer.write("END:VCARD\r\n");
+            }
+        };
+
+        private final String fileExtension;
+
+        Format(String fileExtension) {
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * Returns the format for the extension of {@code filePath}, or null if the extension is not known.
+         */
+        public static Format forFile(Path filePath) {
+            String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (fileName.endsWith(format.fileExtension)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        void writeHeader(Writer writer) throws IOException {
+            // Most formats have no header.
+        }
+
+        abstract void writePerson(Writer writer, Person person) throws IOException;
+
+        private static String joinModuleCodes(Person person, String separator) {
+            return person.getModules().stream()
+                    .map(Module::getModuleCode)
+                    .sorted()
+                    .collect(Collectors.joining(separator));
+        }
+
+        private static String escapeVcardText(String text) {
+            return text.replace("\\", "\\\\").replace(",", "\\,").replace(";", "\\;").replace("\n", "\\n");
+        }
+    }
+
+    private final Path filePath;
+    private final boolean isAllPersons;
+
+    /**
+     * Creates an ExportCommand to write the displayed persons, or all persons if {@code isAllPersons} is true,
+     * to {@code filePath}, in the format of its file extension.
+     */
+    public ExportCommand(Path filePath, boolean isAllPersons) {
+        requireNonNull(filePath);
+        checkArgument(Format.forFile(filePath) != null, MESSAGE_UNKNOWN_FORMAT);
+        this.filePath = filePath;
+        this.isAllPersons = isAllPersons;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> persons = isAllPersons
+                ? model.getAddressBookSnapshot().getPersonList()
+                : new ArrayList<>(model.getFilteredPersonList());
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath),
+                progressListener -> export(persons, progressListener));
+    }
+
+    /**
+     * Writes {@code persons} to the file, and returns the feedback to show to the user.
+     */
+    private String export(List<Person> persons, Consumer<String> progressListener) {
+        Format format = Format.forFile(filePath);
+        Path tempFilePath = null;
+        boolean isExported = false;
+        try {
+            Path folder = filePath.toAbsolutePath().getParent();
+            Files.createDirectories(folder);
+            tempFilePath = Files.createTempFile(folder, filePath.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFilePath, StandardCharsets.UTF_8)) {
+                format.writeHeader(writer);
+                int writtenCount = 0;
+                for (Person person : persons) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        logger.info("Export to " + filePath + " was cancelled");
+                        return String.format(MESSAGE_CANCELLED, filePath);
+                    }
+                    format.writePerson(writer, person);
+                    writtenCount++;
+                    if (writtenCount % PROGRESS_INTERVAL == 0) {
+                        progressListener.accept(String.format(MESSAGE_PROGRESS, filePath, writtenCount,
+                                persons.size()));
+                    }
+                }
+            }
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            isExported = true;
+        } catch (ClosedByInterruptException e) {
+            logger.info("Export to " + filePath + " was cancelled");
+            return String.format(MESSAGE_CANCELLED, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to export to " + filePath + ": " + StringUtil.getDetails(e));
+            return String.format(MESSAGE_FAILED, filePath, e.getMessage());
+        } finally {
+            // An export that failed or was cancelled leaves no partly written file behind.
+            if (!isExported) {
+                deleteQuietly(tempFilePath);
+            }
+        }
+
+        logger.info("Exported " + persons.size() + " persons to " + filePath);
+        return String.format(MESSAGE_SUCCESS, persons.size(), filePath);
+    }
+
+    private static void deleteQuietly(Path filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && isAllPersons == otherExportCommand.isAllPersons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isAllPersons", isAllPersons)
+                .toString();
+    }
+}
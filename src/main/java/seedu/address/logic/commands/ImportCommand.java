@@ -0,0 +1,279 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Adds the persons in a CSV file to the address book.
+ * <p>
+ * The file is read one row at a time, and valid rows are added in batches, so only one batch of persons is held in
+ * memory besides the address book itself, however long the file is. Rows that are invalid, or that have the name or
+ * telegram handle of an existing person or an earlier row, are skipped instead of stopping the import, and written
+ * with their line number and the reason to a reject file next to the imported file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV file to the address book. "
+            + "The first row of the file names the columns: "
+            + String.join(", ", CsvPersonParser.COLUMNS) + ". "
+            + "The telegram and favourite columns are optional.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s.";
+    public static final String MESSAGE_REJECTS = "\n%1$d rows were skipped, see %2$s for the reasons.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s has no header row.";
+    public static final String MESSAGE_INVALID_HEADER = "The file %1$s could not be imported: %2$s";
+    public static final String MESSAGE_IMPORT_FAILED = "The file %1$s could not be read: %2$s\n"
+            + "%3$d persons were imported before the error.";
+
+    public static final String REJECT_FILE_SUFFIX = ".rejects.csv";
+    public static final List<String> REJECT_COLUMNS = List.of("line", "error", "row");
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final int batchSize;
+
+    /**
+     * Creates an ImportCommand to import the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        this(filePath, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an ImportCommand that adds the persons in {@code filePath} in batches of {@code batchSize}.
+     */
+    ImportCommand(Path filePath, int batchSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the path of the reject file for the CSV file at {@code filePath},
+     * e.g. {@code roster.rejects.csv} for {@code roster.csv}.
+     */
+    public static Path getRejectFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + REJECT_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        Path rejectFilePath = getRejectFilePath(filePath);
+        Batch batch = new Batch(model);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                RejectReport rejects = new RejectReport(rejectFilePath)) {
+            CsvPersonParser personParser = readHeader(reader);
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                importRow(line, lineNumber, personParser, batch, rejects);
+                if (batch.size() >= batchSize) {
+                    batch.flush();
+                }
+            }
+            batch.flush();
+
+            logger.info("Imported " + batch.getImportedCount() + " persons from " + filePath + ", skipped "
+                    + rejects.getCount() + " rows");
+            String message = String.format(MESSAGE_SUCCESS, batch.getImportedCount(), filePath);
+            if (rejects.getCount() > 0) {
+                message += String.format(MESSAGE_REJECTS, rejects.getCount(), rejectFilePath);
+            }
+            return new CommandResult(message);
+        } catch (IOException e) {
+            batch.flush();
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, StringUtil.getDetails(e),
+                    batch.getImportedCount()), e);
+        }
+    }
+
+    private CsvPersonParser readHeader(BufferedReader reader) throws IOException, CommandException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+        }
+        // Spreadsheet programs often start UTF-8 files with a byte order mark.
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        try {
+            return new CsvPersonParser(CsvUtil.parseLine(header));
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static void importRow(String line, int lineNumber, CsvPersonParser personParser, Batch batch,
+            RejectReport rejects) throws IOException {
+        Person person;
+        try {
+            person = personParser.parse(CsvUtil.parseLine(line));
+        } catch (IllegalValueException e) {
+            // ParseException is an IllegalValueException as well
+            rejects.add(lineNumber, e.getMessage(), line);
+            return;
+        }
+
+        if (batch.hasName(person)) {
+            rejects.add(lineNumber, AddCommand.MESSAGE_DUPLICATE_NAME, line);
+        } else if (batch.hasTelegram(person)) {
+            rejects.add(lineNumber, AddCommand.MESSAGE_DUPLICATE_TELEGRAM, line);
+        } else {
+            batch.add(person);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The persons waiting to be added to the model, whose names and telegram handles count as taken as well.
+     */
+    private static class Batch {
+        private final Model model;
+        private final List<Person> persons = new ArrayList<>();
+        private final Set<Name> names = new HashSet<>();
+        private final Set<Telegram> telegrams = new HashSet<>();
+        private int importedCount;
+
+        Batch(Model model) {
+            this.model = model;
+        }
+
+        boolean hasName(Person person) {
+            return names.contains(person.getName()) || model.hasName(person);
+        }
+
+        boolean hasTelegram(Person person) {
+            return person.getTelegram().map(telegrams::contains).orElse(false) || model.hasTelegram(person);
+        }
+
+        void add(Person person) {
+            persons.add(person);
+            names.add(person.getName());
+            person.getTelegram().ifPresent(telegrams::add);
+        }
+
+        int size() {
+            return persons.size();
+        }
+
+        int getImportedCount() {
+            return importedCount;
+        }
+
+        /**
+         * Adds the waiting persons to the model.
+         */
+        void flush() {
+            model.addPersons(persons);
+            importedCount += persons.size();
+            persons.clear();
+            names.clear();
+            telegrams.clear();
+        }
+    }
+
+    /**
+     * Writes the rejected rows to a CSV file, which is only created once the first row is rejected.
+     * A reject file left over from an earlier import of the same file is deleted.
+     */
+    private static class RejectReport implements AutoCloseable {
+        private final Path filePath;
+        private BufferedWriter writer;
+        private int count;
+
+        RejectReport(Path filePath) throws IOException {
+            this.filePath = filePath;
+            Files.deleteIfExists(filePath);
+        }
+
+        void add(int lineNumber, String error, String row) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+                writeLine(REJECT_COLUMNS);
+            }
+            // Keep each rejected row on one line, as the reject file is read like the imported one
+            writeLine(List.of(String.valueOf(lineNumber), error.replaceAll("\\s*\\R\\s*", " "), row));
+            count++;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        private void writeLine(List<String> fields) throws IOException {
+            writer.write(CsvUtil.toLine(fields));
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE_POLICY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookMerger;
+import seedu.address.model.MergePolicy;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Merges the persons in other AcademySource data files into the address book.
+ * <p>
+ * The files are read at the same time, one per thread, and then merged from the least to the most recently modified
+ * file, after the persons already in the address book. The merged address book replaces the current one in a single
+ * change, so it is saved once.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Merges the persons in other AcademySource data "
+            + "files into the address book. Persons are matched by name. When a person has different details, "
+            + "the current details are kept unless a policy says otherwise: "
+            + MergePolicy.KEEP_NEWEST.keyword + " (keep the details from the most recently modified file), "
+            + MergePolicy.UNION_MODULES.keyword + " (combine the modules), "
+            + MergePolicy.KEEP_FAVOURITE.keyword + " (keep the favourite mark).\n"
+            + "Parameters: FILE_PATH... [" + PREFIX_MERGE_POLICY + "POLICY]...\n"
+            + "Example: " + COMMAND_WORD + " data/team1.json data/team2.json "
+            + PREFIX_MERGE_POLICY + MergePolicy.KEEP_NEWEST.keyword + " "
+            + PREFIX_MERGE_POLICY + MergePolicy.UNION_MODULES.keyword;
+
+    public static final String MESSAGE_SUCCESS = "Merged %1$d files: %2$d persons added, %3$d persons updated.";
+    public static final String MESSAGE_SKIPPED = "\n%1$d persons were skipped as their telegram handles belong to "
+            + "other persons: %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_INVALID_FILE = "The file %1$s could not be read: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(MergeCommand.class);
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final List<Path> filePaths;
+    private final Set<MergePolicy> policies;
+
+    /**
+     * Creates a MergeCommand to merge the data files at {@code filePaths} with {@code policies}.
+     */
+    public MergeCommand(List<Path> filePaths, Set<MergePolicy> policies) {
+        requireAllNonNull(filePaths, policies);
+        this.filePaths = List.copyOf(filePaths);
+        this.policies = policies.isEmpty() ? EnumSet.noneOf(MergePolicy.class) : EnumSet.copyOf(policies);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        for (Path filePath : filePaths) {
+            if (!Files.isRegularFile(filePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+            }
+        }
+
+        List<DataFile> dataFiles = readAll();
+        dataFiles.sort(Comparator.comparing(dataFile -> dataFile.lastModifiedTime));
+
+        AddressBookMerger merger = new AddressBookMerger(model.getAddressBook(), policies);
+        for (DataFile dataFile : dataFiles) {
+            merger.merge(dataFile.addressBook);
+        }
+        if (merger.getAddedCount() > 0 || merger.getUpdatedCount() > 0) {
+            model.setAddressBook(merger.toAddressBook());
+        }
+
+        logger.info("Merged " + filePaths + ": " + merger.getAddedCount() + " added, " + merger.getUpdatedCount()
+                + " updated, " + merger.getSkippedPersons().size() + " skipped");
+        String message = String.format(MESSAGE_SUCCESS, filePaths.size(), merger.getAddedCount(),
+                merger.getUpdatedCount());
+        if (!merger.getSkippedPersons().isEmpty()) {
+            List<String> skippedNames = new ArrayList<>();
+            merger.getSkippedPersons().forEach(person -> skippedNames.add(person.getName().fullName));
+            message += String.format(MESSAGE_SKIPPED, skippedNames.size(), String.join(", ", skippedNames));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Reads all the data files, each on its own thread.
+     */
+    private List<DataFile> readAll() throws CommandException {
+        ExecutorService readers = Executors.newFixedThreadPool(filePaths.size(), runnable -> {
+            Thread thread = new Thread(runnable, "merge-reader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<DataFile>> futures = new ArrayList<>();
+            for (Path filePath : filePaths) {
+                futures.add(readers.submit(() -> DataFile.read(filePath)));
+            }
+
+            List<DataFile> dataFiles = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                dataFiles.add(getResult(futures.get(i), filePaths.get(i)));
+            }
+            return dataFiles;
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static DataFile getResult(Future<DataFile> future, Path filePath) throws CommandException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, "interrupted"), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, cause.getMessage()), cause);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeCommand)) {
+            return false;
+        }
+
+        MergeCommand otherMergeCommand = (MergeCommand) other;
+        return filePaths.equals(otherMergeCommand.filePaths)
+                && policies.equals(otherMergeCommand.policies);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePaths", filePaths)
+                .add("policies", policies)
+                .toString();
+    }
+
+    /**
+     * An address book read from a data file, with the time the file was last modified.
+     */
+    private static class DataFile {
+        private final ReadOnlyAddressBook addressBook;
+        private final FileTime lastModifiedTime;
+
+        private DataFile(ReadOnlyAddressBook addressBook, FileTime lastModifiedTime) {
+            this.addressBook = addressBook;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        static DataFile read(Path filePath) throws IOException, DataLoadingException {
+            FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+            ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(filePath).readAddressBook()
+                    .orElseThrow(() -> new IOException("The file was removed"));
+            return new DataFile(addressBook, lastModifiedTime);
+        }
+    }
+}
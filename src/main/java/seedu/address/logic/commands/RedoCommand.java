@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reapplies the latest change to the address book that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change to AcademySource.";
+    public static final String MESSAGE_FAILURE = "There are no undone changes to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
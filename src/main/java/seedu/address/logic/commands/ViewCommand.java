@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Shows the persons in a saved view, or saves the filter of a find command as a view.
+ * A saved view is kept up to date as persons change, so switching to it does not search the persons again.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+    public static final String SAVE_KEYWORD = "save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the contacts in a saved view, or saves the "
+            + "fields and keywords of a " + FindCommand.COMMAND_WORD + " command as a view.\n"
+            + "Parameters: VIEW_NAME\n"
+            + "  or: " + SAVE_KEYWORD + " VIEW_NAME FIELD/KEYWORDS...\n"
+            + "Examples:\n"
+            + "  " + COMMAND_WORD + " " + SAVE_KEYWORD + " CS2103T TAs mm/CS2103T r/ta\n"
+            + "  " + COMMAND_WORD + " CS2103T TAs";
+
+    public static final String MESSAGE_SAVE_SUCCESS = "Saved view %1$s with %2$d persons";
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no saved view named %1$s. Saved views: %2$s";
+    public static final String MESSAGE_INVALID_VIEW_NAME = "View names should only contain alphanumeric characters "
+            + "and spaces, and should not be blank";
+
+    private final String viewName;
+    private final PersonContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a {@code ViewCommand} that shows the persons in the view named {@code viewName}.
+     */
+    public ViewCommand(String viewName) {
+        requireNonNull(viewName);
+        this.viewName = viewName;
+        this.predicate = null;
+    }
+
+    /**
+     * Creates a {@code ViewCommand} that saves the view named {@code viewName} of the persons that match
+     * {@code predicate}.
+     */
+    public ViewCommand(String viewName, PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(viewName);
+        requireNonNull(predicate);
+        this.viewName = viewName;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (predicate != null) {
+            model.saveView(viewName, predicate);
+            model.showView(viewName);
+            return new CommandResult(String.format(MESSAGE_SAVE_SUCCESS, viewName,
+                    model.getFilteredPersonList().size()));
+        }
+
+        if (!model.hasView(viewName)) {
+            String viewNames = String.join(", ", model.getUserPrefs().getSavedViews().keySet());
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, viewName, viewNames));
+        }
+        model.showView(viewName);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return viewName.equals(otherViewCommand.viewName)
+                && Objects.equals(predicate, otherViewCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("viewName", viewName)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleRegistry.Module;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Parses the rows of a CSV file of persons into {@code Person} objects, with the same validation as {@code add}.
+ * The first row of the file names the columns, in any order and case. The name, phone, email, role and modules
+ * columns are required, and the telegram and favourite columns are optional. Several modules are separated by
+ * spaces or semicolons, and a person is a favourite if the favourite column holds "y" or "true".
+ */
+public class CsvPersonParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_MODULES = "modules";
+    public static final String COLUMN_TELEGRAM = "telegram";
+    public static final String COLUMN_FAVOURITE = "favourite";
+
+    /** The columns in the order they are written when exporting. */
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ROLE,
+            COLUMN_MODULES, COLUMN_TELEGRAM, COLUMN_FAVOURITE);
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row is missing the column(s): %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The header row has more than one %1$s column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_INVALID_FAVOURITE = "Favourite should be one of: y, n, true, false";
+
+    private static final List<String> REQUIRED_COLUMNS = COLUMNS.subList(0, 5);
+    private static final String MODULE_SEPARATOR_REGEX = "[\\s;]+";
+
+    private final Map<String, Integer> columnIndexes;
+    private final int columnCount;
+
+    /**
+     * Creates a {@code CsvPersonParser} for rows with the columns in {@code header}.
+     *
+     * @throws ParseException if a required column is missing or a column appears twice.
+     */
+    public CsvPersonParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        columnIndexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (columnIndexes.put(column, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+
+        List<String> missingColumns = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columnIndexes.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missingColumns.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+        columnCount = header.size();
+    }
+
+    /**
+     * Parses a row of fields into a {@code Person}.
+     *
+     * @throws ParseException if the row does not have one field for each column, or any field is invalid.
+     */
+    public Person parse(List<String> fields) throws ParseException {
+        requireNonNull(fields);
+        if (fields.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+        }
+
+        Name name = ParserUtil.parseName(getField(fields, COLUMN_NAME).orElse(""));
+        Phone phone = ParserUtil.parsePhone(getField(fields, COLUMN_PHONE).orElse(""));
+        Email email = ParserUtil.parseEmail(getField(fields, COLUMN_EMAIL).orElse(""));
+        Role role = ParserUtil.parseRole(getField(fields, COLUMN_ROLE).orElse(""));
+        Set<Module> modules = ParserUtil.parseModules(getField(fields, COLUMN_MODULES)
+                .map(moduleCodes -> Arrays.asList(moduleCodes.split(MODULE_SEPARATOR_REGEX)))
+                .orElse(List.of()));
+        Optional<Telegram> telegram = ParserUtil.parseTelegram(getField(fields, COLUMN_TELEGRAM));
+        boolean isFavourite = parseFavourite(getField(fields, COLUMN_FAVOURITE));
+        return new Person(name, phone, email, role, modules, isFavourite, telegram);
+    }
+
+    /**
+     * Returns the trimmed field of {@code column}, or {@code Optional.empty()} if there is no such column or the
+     * field is blank.
+     */
+    private Optional<String> getField(List<String> fields, String column) {
+        return Optional.ofNullable(columnIndexes.get(column))
+                .map(fields::get)
+                .map(String::trim)
+                .filter(field -> !field.isEmpty());
+    }
+
+    private static boolean parseFavourite(Optional<String> favourite) throws ParseException {
+        if (favourite.isEmpty()) {
+            return false;
+        }
+        switch (favourite.get().toLowerCase(Locale.ROOT)) {
+        case "y":
+        case "true":
+            return true;
+        case "n":
+        case "false":
+            return false;
+        default:
+            throw new ParseException(MESSAGE_INVALID_FAVOURITE);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isAllPersons = false;
+        String[] words = trimmedArgs.split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(ExportCommand.ALL_KEYWORD)) {
+            isAllPersons = true;
+            trimmedArgs = words[1];
+        }
+
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path filePath = Paths.get(trimmedArgs);
+        if (Format.forFile(filePath) == null) {
+            throw new ParseException(ExportCommand.MESSAGE_UNKNOWN_FORMAT);
+        }
+        return new ExportCommand(filePath, isAllPersons);
+    }
+}
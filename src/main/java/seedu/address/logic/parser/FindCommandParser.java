@@ -33,11 +33,26 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     @Override
     public FindCommand parse(String args) throws ParseException {
-        Map<SearchField, List<String>> fieldKeywordMap = new HashMap<>();
+        return new FindCommand(parsePredicate(tokenize(args)));
+    }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeFind(args, PREFIX_NAME, PREFIX_PHONE,
+    /**
+     * Tokenizes {@code args} with the prefixes of the fields that can be searched.
+     */
+    public static ArgumentMultimap tokenize(String args) throws ParseException {
+        return ArgumentTokenizer.tokenizeFind(args, PREFIX_NAME, PREFIX_PHONE,
                 PREFIX_MULTIPLE_MODULES, PREFIX_FAVOURITE, PREFIX_ROLE, PREFIX_TELEGRAM, PREFIX_EMAIL
         );
+    }
+
+    /**
+     * Returns the predicate that matches the fields and keywords in {@code argMultimap}.
+     * @throws ParseException if no field is given, or a keyword is invalid
+     */
+    public static PersonContainsKeywordsPredicate parsePredicate(ArgumentMultimap argMultimap)
+            throws ParseException {
+        Map<SearchField, List<String>> fieldKeywordMap = new HashMap<>();
+
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_MULTIPLE_MODULES,
                 PREFIX_FAVOURITE, PREFIX_ROLE, PREFIX_TELEGRAM, PREFIX_EMAIL
         );
@@ -87,10 +102,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (fieldKeywordMap.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        return new FindCommand(new PersonContainsKeywordsPredicate(fieldKeywordMap));
+        return new PersonContainsKeywordsPredicate(fieldKeywordMap);
     }
 
-    private List<String> extractKeywords(ArgumentMultimap argMultimap, Prefix prefix) {
+    private static List<String> extractKeywords(ArgumentMultimap argMultimap, Prefix prefix) {
         return argMultimap.getAllValues(prefix)
                 .stream()
                 .flatMap(s -> Arrays.stream(s.split("\\s+")))
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE_POLICY;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.MergePolicy;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        // File paths can look like prefixes (e.g. data/team1.json), so the words are split here instead of by
+        // ArgumentTokenizer, which only allows the prefixes of person fields.
+        List<Path> filePaths = new ArrayList<>();
+        Set<MergePolicy> policies = EnumSet.noneOf(MergePolicy.class);
+        String trimmedArgs = args.trim();
+        for (String word : trimmedArgs.isEmpty() ? new String[0] : trimmedArgs.split("\\s+")) {
+            if (word.startsWith(PREFIX_MERGE_POLICY.getPrefix())) {
+                policies.add(parsePolicy(word.substring(PREFIX_MERGE_POLICY.getPrefix().length())));
+            } else if (FileUtil.isValidPath(word)) {
+                filePaths.add(Paths.get(word));
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+            }
+        }
+
+        if (filePaths.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+        return new MergeCommand(filePaths, policies);
+    }
+
+    private static MergePolicy parsePolicy(String keyword) throws ParseException {
+        MergePolicy policy = MergePolicy.fromKeyword(keyword);
+        if (policy == null) {
+            throw new ParseException(MergePolicy.MESSAGE_CONSTRAINTS);
+        }
+        return policy;
+    }
+}
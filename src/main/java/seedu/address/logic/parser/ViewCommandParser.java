@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    private static final String VIEW_NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        String[] words = trimmedArgs.split("\\s+", 2);
+        if (!words[0].equals(ViewCommand.SAVE_KEYWORD)) {
+            return new ViewCommand(parseViewName(trimmedArgs));
+        }
+        if (words.length == 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        // The name of the view is everything before the first field, as the preamble of the find arguments.
+        ArgumentMultimap argMultimap = FindCommandParser.tokenize(" " + words[1]);
+        String viewName = parseViewName(argMultimap.getPreamble());
+        PersonContainsKeywordsPredicate predicate = FindCommandParser.parsePredicate(argMultimap);
+        return new ViewCommand(viewName, predicate);
+    }
+
+    private static String parseViewName(String viewName) throws ParseException {
+        String normalizedViewName = viewName.trim().replaceAll("\\s+", " ");
+        if (!normalizedViewName.matches(VIEW_NAME_VALIDATION_REGEX)) {
+            throw new ParseException(ViewCommand.MESSAGE_INVALID_VIEW_NAME);
+        }
+        return normalizedViewName;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -83,6 +84,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book.
+     * None of the persons may already exist in the address book or share a name or telegram handle with each other.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -102,6 +111,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook}.
+     * All of {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,179 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
+
+/**
+ * The differences between an old and a new version of an address book, with persons matched by name.
+ * Guarantees: immutable.
+ */
+public final class AddressBookDelta {
+
+    private final List<Person> removedPersons;
+    private final List<Person> oldReplacedPersons;
+    private final List<Person> newReplacedPersons;
+    private final List<Person> addedPersons;
+
+    private AddressBookDelta(List<Person> removedPersons, List<Person> oldReplacedPersons,
+            List<Person> newReplacedPersons, List<Person> addedPersons) {
+        this.removedPersons = Collections.unmodifiableList(removedPersons);
+        this.oldReplacedPersons = Collections.unmodifiableList(oldReplacedPersons);
+        this.newReplacedPersons = Collections.unmodifiableList(newReplacedPersons);
+        this.addedPersons = Collections.unmodifiableList(addedPersons);
+    }
+
+    /**
+     * Returns the changes that turn {@code oldVersion} into {@code newVersion}.
+     * A person whose name is in both versions but whose details differ counts as replaced.
+     */
+    public static AddressBookDelta between(ReadOnlyAddressBook oldVersion, ReadOnlyAddressBook newVersion) {
+        requireAllNonNull(oldVersion, newVersion);
+        Map<Name, Person> oldPersons = mapByName(oldVersion.getPersonList());
+        List<Person> oldReplacedPersons = new ArrayList<>();
+        List<Person> newReplacedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person newPerson : newVersion.getPersonList()) {
+            Person oldPerson = oldPersons.remove(newPerson.getName());
+            if (oldPerson == null) {
+                addedPersons.add(newPerson);
+            } else if (oldPerson != newPerson && !oldPerson.equals(newPerson)) {
+                oldReplacedPersons.add(oldPerson);
+                newReplacedPersons.add(newPerson);
+            }
+        }
+
+        List<Person> removedPersons = new ArrayList<>();
+        for (Person oldPerson : oldVersion.getPersonList()) {
+            if (oldPersons.containsKey(oldPerson.getName())) {
+                removedPersons.add(oldPerson);
+            }
+        }
+        return new AddressBookDelta(removedPersons, oldReplacedPersons, newReplacedPersons, addedPersons);
+    }
+
+    /**
+     * Returns true if both versions hold the same persons.
+     */
+    public boolean isEmpty() {
+        return removedPersons.isEmpty() && oldReplacedPersons.isEmpty() && addedPersons.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons that were removed, replaced or added.
+     */
+    public int size() {
+        return removedPersons.size() + oldReplacedPersons.size() + addedPersons.size();
+    }
+
+    /**
+     * Applies these changes to {@code target}, which may have been changed since the old version as well.
+     * A change is only applied if the person in {@code target} is still as it was in the old version. Otherwise
+     * both sides changed the same person, the person in {@code target} is kept, and the change is reported as a
+     * conflict. A change that would give two persons the same telegram handle is also a conflict.
+     *
+     * @return the names of the persons whose changes conflicted.
+     */
+    public List<Name> applyTo(AddressBook target) {
+        Map<Name, Person> currentPersons = mapByName(target.getPersonList());
+        List<Name> conflicts = new ArrayList<>();
+
+        // Removals come first, so that the names and telegram handles they free up can be reused by the others.
+        for (Person removedPerson : removedPersons) {
+            Person currentPerson = currentPersons.get(removedPerson.getName());
+            if (currentPerson == null) {
+                continue;
+            }
+            if (currentPerson.equals(removedPerson)) {
+                target.removePerson(currentPerson);
+            } else {
+                conflicts.add(removedPerson.getName());
+            }
+        }
+
+        for (int i = 0; i < oldReplacedPersons.size(); i++) {
+            Person oldPerson = oldReplacedPersons.get(i);
+            Person newPerson = newReplacedPersons.get(i);
+            Person currentPerson = currentPersons.get(oldPerson.getName());
+            if (newPerson.equals(currentPerson)) {
+                continue;
+            }
+            if (!oldPerson.equals(currentPerson)) {
+                conflicts.add(oldPerson.getName());
+                continue;
+            }
+            try {
+                target.setPerson(currentPerson, newPerson);
+            } catch (DuplicateNameException | DuplicateTelegramException e) {
+                conflicts.add(oldPerson.getName());
+            }
+        }
+
+        for (Person addedPerson : addedPersons) {
+            Person currentPerson = currentPersons.get(addedPerson.getName());
+            if (currentPerson != null) {
+                if (!currentPerson.equals(addedPerson)) {
+                    conflicts.add(addedPerson.getName());
+                }
+                continue;
+            }
+            try {
+                target.addPerson(addedPerson);
+            } catch (DuplicateNameException | DuplicateTelegramException e) {
+                conflicts.add(addedPerson.getName());
+            }
+        }
+        return conflicts;
+    }
+
+    private static Map<Name, Person> mapByName(List<Person> persons) {
+        Map<Name, Person> personsByName = new HashMap<>();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+        }
+        return personsByName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookDelta)) {
+            return false;
+        }
+
+        AddressBookDelta otherDelta = (AddressBookDelta) other;
+        return removedPersons.equals(otherDelta.removedPersons)
+                && oldReplacedPersons.equals(otherDelta.oldReplacedPersons)
+                && newReplacedPersons.equals(otherDelta.newReplacedPersons)
+                && addedPersons.equals(otherDelta.addedPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(removedPersons, oldReplacedPersons, newReplacedPersons, addedPersons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("removedPersons", removedPersons)
+                .add("replacedPersons", newReplacedPersons)
+                .add("addedPersons", addedPersons)
+                .toString();
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * The history of the changes to a list of persons, which allows steps to be undone and redone.
+ * <p>
+ * Instead of a copy of the whole list, each step keeps only the ranges of the list that it replaced: the persons
+ * that were in each range before, and those that are in it after. Since persons are immutable, the persons are
+ * shared with the list rather than copied. The memory used by the history therefore grows with the number of persons
+ * changed, not with the size of the list, and hundreds of steps can be kept.
+ * <p>
+ * Changes are recorded as they are made to the list, and grouped into a step whenever {@link #commit()} is called.
+ */
+class AddressBookHistory {
+
+    static final int DEFAULT_MAX_STEPS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookHistory.class);
+
+    private final ObservableList<Person> persons;
+    private final int maxSteps;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<ListEdit> pendingEdits = new ArrayList<>();
+    private boolean isRecording = true;
+
+    /**
+     * Creates an {@code AddressBookHistory} that records the changes to {@code persons}, keeping at most
+     * {@code maxSteps} steps that can be undone.
+     */
+    AddressBookHistory(ObservableList<Person> persons, int maxSteps) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.maxSteps = maxSteps;
+        persons.addListener((ListChangeListener<? super Person>) this::record);
+    }
+
+    /**
+     * Ends the current step. Does nothing if no changes were made since the previous step.
+     */
+    void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        undoSteps.push(new Step(pendingEdits));
+        pendingEdits = new ArrayList<>();
+        redoSteps.clear();
+        if (undoSteps.size() > maxSteps) {
+            undoSteps.removeLast();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingEdits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the persons as they were before the latest step, and moves the step to the steps that can be redone.
+     * The caller must then replace the persons with the returned ones using {@link #runUnrecorded(Runnable)}.
+     */
+    List<Person> undo() {
+        commit();
+        assert canUndo();
+        Step step = undoSteps.pop();
+        redoSteps.push(step);
+        return step.revert(persons);
+    }
+
+    /**
+     * Returns the persons as they were after the latest step that was undone, and moves the step back to the steps
+     * that can be undone. The caller must then replace the persons with the returned ones using
+     * {@link #runUnrecorded(Runnable)}.
+     */
+    List<Person> redo() {
+        assert canRedo();
+        Step step = redoSteps.pop();
+        undoSteps.push(step);
+        return step.apply(persons);
+    }
+
+    /**
+     * Makes {@code change} to the persons without recording it.
+     */
+    void runUnrecorded(Runnable change) {
+        isRecording = false;
+        try {
+            change.run();
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    private void record(ListChangeListener.Change<? extends Person> change) {
+        if (!isRecording) {
+            return;
+        }
+
+        List<RangeEdit> rangeEdits = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Neither is made by the address book, and neither can be replayed from the replaced ranges.
+                logger.warning("The persons were reordered, so the changes made so far can no longer be undone");
+                clear();
+                return;
+            }
+            RangeEdit.of(change.getFrom(), change.getRemoved(), change.getAddedSubList()).ifPresent(rangeEdits::add);
+        }
+        if (!rangeEdits.isEmpty()) {
+            pendingEdits.add(new ListEdit(rangeEdits));
+        }
+    }
+
+    private void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingEdits = new ArrayList<>();
+    }
+
+    /**
+     * The changes that make up one step, in the order they were made.
+     */
+    private static class Step {
+        private final List<ListEdit> edits;
+
+        Step(List<ListEdit> edits) {
+            this.edits = edits;
+        }
+
+        List<Person> apply(List<Person> before) {
+            List<Person> after = before;
+            for (ListEdit edit : edits) {
+                after = edit.apply(after);
+            }
+            return after;
+        }
+
+        List<Person> revert(List<Person> after) {
+            List<Person> before = after;
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                before = edits.get(i).revert(before);
+            }
+            return before;
+        }
+    }
+
+    /**
+     * One change to the list, made up of edits to ranges that do not overlap, in ascending order of position.
+     * As in a {@code ListChangeListener.Change}, the position of each range is its position in the list after the
+     * change, so the ranges can be replaced one after another in a single pass over the list.
+     */
+    private static class ListEdit {
+        private final List<RangeEdit> rangeEdits;
+
+        ListEdit(List<RangeEdit> rangeEdits) {
+            this.rangeEdits = rangeEdits;
+        }
+
+        List<Person> apply(List<Person> before) {
+            List<Person> after = new ArrayList<>(before.size());
+            int beforeIndex = 0;
+            for (RangeEdit rangeEdit : rangeEdits) {
+                int unchangedCount = rangeEdit.from - after.size();
+                after.addAll(before.subList(beforeIndex, beforeIndex + unchangedCount));
+                after.addAll(rangeEdit.addedPersons);
+                beforeIndex += unchangedCount + rangeEdit.removedPersons.size();
+            }
+            after.addAll(before.subList(beforeIndex, before.size()));
+            return after;
+        }
+
+        List<Person> revert(List<Person> after) {
+            List<Person> before = new ArrayList<>(after.size());
+            int afterIndex = 0;
+            for (RangeEdit rangeEdit : rangeEdits) {
+                before.addAll(after.subList(afterIndex, rangeEdit.from));
+                before.addAll(rangeEdit.removedPersons);
+                afterIndex = rangeEdit.from + rangeEdit.addedPersons.size();
+            }
+            before.addAll(after.subList(afterIndex, after.size()));
+            return before;
+        }
+    }
+
+    /**
+     * The persons removed from and added to one range of the list.
+     */
+    private static class RangeEdit {
+        private final int from;
+        private final List<Person> removedPersons;
+        private final List<Person> addedPersons;
+
+        private RangeEdit(int from, List<Person> removedPersons, List<Person> addedPersons) {
+            this.from = from;
+            this.removedPersons = removedPersons;
+            this.addedPersons = addedPersons;
+        }
+
+        /**
+         * Returns the edit that replaces {@code removedPersons} at {@code from} with {@code addedPersons}, leaving out
+         * the persons at the start and end of the range that were replaced by themselves, e.g. when the whole list is
+         * replaced by a slightly changed copy. Returns {@code Optional.empty()} if nothing was changed at all.
+         */
+        static Optional<RangeEdit> of(int from, List<? extends Person> removedPersons,
+                List<? extends Person> addedPersons) {
+            int maxCommonLength = Math.min(removedPersons.size(), addedPersons.size());
+            int prefixLength = 0;
+            while (prefixLength < maxCommonLength
+                    && removedPersons.get(prefixLength) == addedPersons.get(prefixLength)) {
+                prefixLength++;
+            }
+            int suffixLength = 0;
+            while (suffixLength < maxCommonLength - prefixLength
+                    && removedPersons.get(removedPersons.size() - 1 - suffixLength)
+                            == addedPersons.get(addedPersons.size() - 1 - suffixLength)) {
+                suffixLength++;
+            }
+
+            List<Person> trimmedRemovedPersons = copyRange(removedPersons, prefixLength, suffixLength);
+            List<Person> trimmedAddedPersons = copyRange(addedPersons, prefixLength, suffixLength);
+            if (trimmedRemovedPersons.isEmpty() && trimmedAddedPersons.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    new RangeEdit(from + prefixLength, trimmedRemovedPersons, trimmedAddedPersons));
+        }
+
+        private static List<Person> copyRange(List<? extends Person> persons, int skippedAtStart, int skippedAtEnd) {
+            return Collections.unmodifiableList(
+                    new ArrayList<>(persons.subList(skippedAtStart, persons.size() - skippedAtEnd)));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.ModuleRegistry.Module;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Merges several address books into one, matching persons by name.
+ * <p>
+ * Address books are merged in the order they are given, from oldest to newest. A person that is only in one address
+ * book is added as is. A person that is in several with different details is resolved by the {@link MergePolicy}s.
+ * Persons are kept in hash maps by name and telegram handle, so each person is merged in constant time. A person that
+ * would take a telegram handle from a different person is skipped, as a handle can only belong to one person.
+ */
+public class AddressBookMerger {
+
+    private final Set<MergePolicy> policies;
+    // Persons by name, in the order they were first seen.
+    private final Map<Name, Person> persons = new LinkedHashMap<>();
+    private final Map<Telegram, Name> telegramOwners = new HashMap<>();
+    private final Set<Name> addedNames = new HashSet<>();
+    private final Set<Name> updatedNames = new HashSet<>();
+    private final List<Person> skippedPersons = new ArrayList<>();
+
+    /**
+     * Creates an {@code AddressBookMerger} that starts from the persons in {@code base}, and resolves persons with
+     * {@code policies}. Persons from {@code base} are not counted as added.
+     */
+    public AddressBookMerger(ReadOnlyAddressBook base, Set<MergePolicy> policies) {
+        requireAllNonNull(base, policies);
+        this.policies = policies.isEmpty() ? EnumSet.noneOf(MergePolicy.class) : EnumSet.copyOf(policies);
+        for (Person person : base.getPersonList()) {
+            persons.put(person.getName(), person);
+            person.getTelegram().ifPresent(telegram -> telegramOwners.put(telegram, person.getName()));
+        }
+    }
+
+    /**
+     * Merges the persons in {@code newer}, which is newer than any address book merged before it.
+     */
+    public void merge(ReadOnlyAddressBook newer) {
+        requireNonNull(newer);
+        for (Person person : newer.getPersonList()) {
+            merge(person);
+        }
+    }
+
+    private void merge(Person newPerson) {
+        Name name = newPerson.getName();
+        Person oldPerson = persons.get(name);
+        Person mergedPerson = oldPerson == null ? newPerson : resolve(oldPerson, newPerson);
+        if (mergedPerson.equals(oldPerson)) {
+            return;
+        }
+
+        Optional<Telegram> telegram = mergedPerson.getTelegram();
+        if (telegram.isPresent() && !name.equals(telegramOwners.getOrDefault(telegram.get(), name))) {
+            skippedPersons.add(newPerson);
+            return;
+        }
+
+        if (oldPerson != null) {
+            oldPerson.getTelegram().ifPresent(telegramOwners::remove);
+        }
+        telegram.ifPresent(handle -> telegramOwners.put(handle, name));
+        persons.put(name, mergedPerson);
+        if (oldPerson == null) {
+            addedNames.add(name);
+        } else if (!addedNames.contains(name)) {
+            updatedNames.add(name);
+        }
+    }
+
+    /**
+     * Returns the version of a person to keep, given an older and a newer version with the same name.
+     */
+    private Person resolve(Person oldPerson, Person newPerson) {
+        Person keptPerson = policies.contains(MergePolicy.KEEP_NEWEST) ? newPerson : oldPerson;
+        Set<Module> modules = keptPerson.getModules();
+        if (policies.contains(MergePolicy.UNION_MODULES)) {
+            modules = new HashSet<>(oldPerson.getModules());
+            modules.addAll(newPerson.getModules());
+        }
+        boolean isFavourite = keptPerson.getIsFavourite();
+        if (policies.contains(MergePolicy.KEEP_FAVOURITE)) {
+            isFavourite = oldPerson.getIsFavourite() || newPerson.getIsFavourite();
+        }
+        return new Person(keptPerson.getName(), keptPerson.getPhone(), keptPerson.getEmail(), keptPerson.getRole(),
+                modules, isFavourite, keptPerson.getTelegram());
+    }
+
+    /**
+     * Returns the merged address book.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return addressBook;
+    }
+
+    /**
+     * Returns the number of persons that were not in the base address book.
+     */
+    public int getAddedCount() {
+        return addedNames.size();
+    }
+
+    /**
+     * Returns the number of persons from the base address book whose details were changed.
+     */
+    public int getUpdatedCount() {
+        return updatedNames.size();
+    }
+
+    /**
+     * Returns the persons that were skipped because their telegram handle belongs to a different person.
+     */
+    public List<Person> getSkippedPersons() {
+        return skippedPersons;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable point-in-time copy of an address book.
+ * Since {@code Person} objects are immutable, only the list of references is copied, which makes a snapshot
+ * cheap enough to take after every command and safe to hand over to other threads.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the persons currently in {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        this(source.getPersonList());
+    }
+
+    /**
+     * Creates a snapshot that holds {@code persons}.
+     */
+    AddressBookSnapshot(Collection<Person> persons) {
+        requireNonNull(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+    }
+
+    /**
+     * Returns a snapshot of the persons currently in {@code source}, which is {@code source} itself if it is
+     * a snapshot already.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        return source instanceof AddressBookSnapshot ? (AddressBookSnapshot) source : new AddressBookSnapshot(source);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
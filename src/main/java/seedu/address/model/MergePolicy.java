@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * A rule for resolving a person that is in more than one of the address books being merged, with different details.
+ * Without any policy, the version that was seen first is kept.
+ */
+public enum MergePolicy {
+    /** Keep the version from the address book that was changed last. */
+    KEEP_NEWEST("newest"),
+    /** Give the kept version the modules of both versions. */
+    UNION_MODULES("modules"),
+    /** Mark the kept version as a favourite if either version is one. */
+    KEEP_FAVOURITE("favourite");
+
+    public static final String MESSAGE_CONSTRAINTS = "Merge policies should be one of the following: "
+            + "newest, modules, favourite";
+
+    public final String keyword;
+
+    MergePolicy(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the merge policy named by {@code keyword}, ignoring case, or null if there is none.
+     */
+    public static MergePolicy fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        for (MergePolicy policy : values()) {
+            if (policy.keyword.equals(lowerCaseKeyword)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
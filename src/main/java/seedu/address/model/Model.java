@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -52,6 +57,64 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the address book as it was after one of its changes, never halfway through one.
+     * Unlike the other methods, this can be called on any thread, including while the address book is being
+     * changed, but not from a listener of the person lists.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the generation of the address book data.
+     * The generation increases every time the address book is modified, so two equal generations
+     * mean that no changes were made in between.
+     */
+    long getAddressBookGeneration();
+
+    /**
+     * Returns the publisher of the changes to the persons in the address book. The changes made between two calls
+     * to {@link #commitAddressBook()}, i.e. by one command, are published as one batch when the second call is made.
+     * Subscribers receive the batches on threads of their own, and never hold up the changes.
+     */
+    Flow.Publisher<PersonChangeBatch> getPersonChangePublisher();
+
+    /**
+     * Ends the current step of the address book history, so that the changes made since the previous step are
+     * undone together, and publishes them. Does nothing if no changes were made.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a step of the address book history that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step of the address book history that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to how it was before the latest step, and shows all persons.
+     * There must be a step that can be undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to how it was after the latest undone step, and shows all persons.
+     * There must be a step that can be redone.
+     */
+    void redoAddressBook();
+
+    /**
+     * Applies the changes in {@code delta} to the address book as one update.
+     * Changes to persons that were also changed in the address book are not applied.
+     *
+     * @return the names of the persons whose changes were not applied.
+     * @see AddressBookDelta#applyTo(AddressBook)
+     */
+    List<Name> mergeAddressBookDelta(AddressBookDelta delta);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in AcademySource.
      */
@@ -68,12 +131,24 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all of the given persons as one update.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as one update.
+     * None of {@code persons} may already exist in the address book or share a name or telegram handle with each other.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -81,6 +156,23 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Saves a view named {@code name} of the persons that match {@code predicate}, replacing any view with that
+     * name. The persons in the view are kept up to date as persons change, and the view is kept in the user prefs.
+     */
+    void saveView(String name, PersonContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns true if there is a saved view named {@code name}.
+     */
+    boolean hasView(String name);
+
+    /**
+     * Shows the persons in the saved view named {@code name} in the filtered person list, which then follows the
+     * changes to the view. The view must exist.
+     */
+    void showView(String name);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,17 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The model is changed by a single thread, but {@link #getAddressBookSnapshot()} can be called on any thread.
+ * Changes to the address book are made under the write lock of a {@code StampedLock}. A reader first copies the
+ * persons without locking, and only takes the read lock if a change was made while it was copying. The latest copy
+ * is kept until the next change, so readers that find the address book unchanged share it.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -22,6 +37,15 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final AddressBookHistory addressBookHistory;
+    private final PersonChangePublisher personChangePublisher;
+    private final StampedLock addressBookLock = new StampedLock();
+    // Only changed while holding the write lock.
+    private volatile long addressBookGeneration;
+    private volatile GenerationSnapshot latestSnapshot;
+    private final Map<String, SavedView> savedViews = new HashMap<>();
+    // The name of the saved view shown in the filtered list, or null if it shows something else.
+    private String shownViewName;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +57,13 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // Registered before the filtered list, so that the saved views are up to date when it filters the changes.
+        this.addressBook.getPersonList().addListener((ListChangeListener<? super Person>) this::updateSavedViews);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        addressBookHistory = new AddressBookHistory(this.addressBook.getPersonList(),
+                AddressBookHistory.DEFAULT_MAX_STEPS);
+        personChangePublisher = new PersonChangePublisher(this.addressBook.getPersonList());
+        restoreSavedViews();
     }
 
     public ModelManager() {
@@ -46,6 +76,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        restoreSavedViews();
     }
 
     @Override
@@ -79,7 +110,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        changeAddressBook(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -87,6 +118,129 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        long stamp = addressBookLock.tryOptimisticRead();
+        long generation = addressBookGeneration;
+        GenerationSnapshot snapshot = latestSnapshot;
+        if (snapshot != null && snapshot.generation == generation && addressBookLock.validate(stamp)) {
+            return snapshot.addressBook;
+        }
+
+        if (stamp != 0) {
+            Person[] persons = copyPersonsOptimistically();
+            if (persons != null && addressBookLock.validate(stamp)) {
+                return publishSnapshot(generation, persons);
+            }
+        }
+
+        stamp = addressBookLock.readLock();
+        try {
+            return publishSnapshot(addressBookGeneration, addressBook.getPersonList().toArray(new Person[0]));
+        } finally {
+            addressBookLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns a copy of the persons without locking, or null if a change made at the same time broke the copying.
+     * The copy may also be torn by such a change, so the caller must validate its stamp before using it.
+     */
+    private Person[] copyPersonsOptimistically() {
+        try {
+            return addressBook.getPersonList().toArray(new Person[0]);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private AddressBookSnapshot publishSnapshot(long generation, Person[] persons) {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(Arrays.asList(persons));
+        latestSnapshot = new GenerationSnapshot(generation, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Makes {@code change} to the address book as one new generation.
+     */
+    private void changeAddressBook(Runnable change) {
+        long stamp = addressBookLock.writeLock();
+        try {
+            change.run();
+            addressBookGeneration++;
+        } finally {
+            addressBookLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public long getAddressBookGeneration() {
+        return addressBookGeneration;
+    }
+
+    @Override
+    public Flow.Publisher<PersonChangeBatch> getPersonChangePublisher() {
+        return personChangePublisher;
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBookHistory.commit();
+        personChangePublisher.publish();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBookHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBookHistory.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        List<Person> persons = addressBookHistory.undo();
+        changeAddressBook(() -> addressBookHistory.runUnrecorded(() -> addressBook.setPersons(persons)));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        List<Person> persons = addressBookHistory.redo();
+        changeAddressBook(() -> addressBookHistory.runUnrecorded(() -> addressBook.setPersons(persons)));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public List<Name> mergeAddressBookDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        if (delta.isEmpty()) {
+            return List.of();
+        }
+        AddressBook mergedAddressBook = new AddressBook(addressBook);
+        List<Name> conflicts = delta.applyTo(mergedAddressBook);
+        // Changes that are already in the model leave the same person objects in place. Comparing them by
+        // reference does not load lazily loaded persons, as comparing the address books by value would.
+        if (!isSamePersons(mergedAddressBook.getPersonList(), addressBook.getPersonList())) {
+            setAddressBook(mergedAddressBook);
+        }
+        return conflicts;
+    }
+
+    private static boolean isSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean hasName(Person person) {
         requireNonNull(person);
@@ -101,12 +255,31 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        changeAddressBook(() -> addressBook.removePerson(target));
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        if (targets.isEmpty()) {
+            return;
+        }
+        changeAddressBook(() -> addressBook.removePersons(targets));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        changeAddressBook(() -> addressBook.addPerson(person));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        if (persons.isEmpty()) {
+            return;
+        }
+        changeAddressBook(() -> addressBook.addPersons(persons));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -114,10 +287,66 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        changeAddressBook(() -> addressBook.setPerson(target, editedPerson));
     }
 
 
+    //=========== Saved Views ===============================================================================
+
+    @Override
+    public void saveView(String name, PersonContainsKeywordsPredicate predicate) {
+        requireAllNonNull(name, predicate);
+        userPrefs.setSavedView(name, predicate.getFieldKeywordMap());
+        savedViews.put(name, new SavedView(predicate, addressBook.getPersonList()));
+        if (name.equals(shownViewName)) {
+            showView(name);
+        }
+    }
+
+    @Override
+    public boolean hasView(String name) {
+        requireNonNull(name);
+        return savedViews.containsKey(name);
+    }
+
+    @Override
+    public void showView(String name) {
+        requireNonNull(name);
+        SavedView savedView = savedViews.get(name);
+        assert savedView != null;
+        filteredPersons.setPredicate(savedView::contains);
+        shownViewName = name;
+    }
+
+    /**
+     * Rebuilds the saved views from the user prefs.
+     */
+    private void restoreSavedViews() {
+        savedViews.clear();
+        userPrefs.getSavedViews().forEach((name, fieldKeywordMap) -> savedViews.put(name,
+                new SavedView(new PersonContainsKeywordsPredicate(fieldKeywordMap), addressBook.getPersonList())));
+        if (shownViewName != null && savedViews.containsKey(shownViewName)) {
+            showView(shownViewName);
+        } else if (shownViewName != null) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    private void updateSavedViews(ListChangeListener.Change<? extends Person> change) {
+        if (savedViews.isEmpty()) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Neither changes which persons are in the address book.
+                continue;
+            }
+            for (SavedView savedView : savedViews.values()) {
+                savedView.update(change.getRemoved(), change.getAddedSubList());
+            }
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -133,6 +362,7 @@ public class ModelManager implements Model {
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        shownViewName = null;
     }
 
     @Override
@@ -152,4 +382,16 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A snapshot of the address book, and the generation it was taken of.
+     */
+    private static class GenerationSnapshot {
+        private final long generation;
+        private final AddressBookSnapshot addressBook;
+
+        GenerationSnapshot(long generation, AddressBookSnapshot addressBook) {
+            this.generation = generation;
+            this.addressBook = addressBook;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * One change to the persons in the address book, numbered in the order the changes were made.
+ * Guarantees: immutable.
+ */
+public final class PersonChange {
+
+    /**
+     * The kind of change.
+     */
+    public enum Type {
+        /** A person was added. Only the new person is present. */
+        ADDED,
+        /** A person was replaced, e.g. by an edit. Both the old and the new person are present. */
+        REPLACED,
+        /** A person was removed. Only the old person is present. */
+        REMOVED,
+        /** All persons were removed. Neither person is present. */
+        CLEARED
+    }
+
+    private final long sequenceNumber;
+    private final Type type;
+    private final Person oldPerson;
+    private final Person newPerson;
+
+    private PersonChange(long sequenceNumber, Type type, Person oldPerson, Person newPerson) {
+        requireNonNull(type);
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.oldPerson = oldPerson;
+        this.newPerson = newPerson;
+    }
+
+    /**
+     * Returns the change with {@code sequenceNumber} that added {@code person}.
+     */
+    public static PersonChange added(long sequenceNumber, Person person) {
+        requireNonNull(person);
+        return new PersonChange(sequenceNumber, Type.ADDED, null, person);
+    }
+
+    /**
+     * Returns the change with {@code sequenceNumber} that replaced {@code oldPerson} with {@code newPerson}.
+     */
+    public static PersonChange replaced(long sequenceNumber, Person oldPerson, Person newPerson) {
+        requireNonNull(oldPerson);
+        requireNonNull(newPerson);
+        return new PersonChange(sequenceNumber, Type.REPLACED, oldPerson, newPerson);
+    }
+
+    /**
+     * Returns the change with {@code sequenceNumber} that removed {@code person}.
+     */
+    public static PersonChange removed(long sequenceNumber, Person person) {
+        requireNonNull(person);
+        return new PersonChange(sequenceNumber, Type.REMOVED, person, null);
+    }
+
+    /**
+     * Returns the change with {@code sequenceNumber} that removed all persons.
+     */
+    public static PersonChange cleared(long sequenceNumber) {
+        return new PersonChange(sequenceNumber, Type.CLEARED, null, null);
+    }
+
+    /**
+     * Returns the number of this change, which is one more than that of the change made before it.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person as it was before the change, if there was one.
+     */
+    public Optional<Person> getOldPerson() {
+        return Optional.ofNullable(oldPerson);
+    }
+
+    /**
+     * Returns the person as it is after the change, if there is one.
+     */
+    public Optional<Person> getNewPerson() {
+        return Optional.ofNullable(newPerson);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return sequenceNumber == otherChange.sequenceNumber
+                && type == otherChange.type
+                && Objects.equals(oldPerson, otherChange.oldPerson)
+                && Objects.equals(newPerson, otherChange.newPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequenceNumber, type, oldPerson, newPerson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sequenceNumber", sequenceNumber)
+                .add("type", type)
+                .add("oldPerson", oldPerson)
+                .add("newPerson", newPerson)
+                .toString();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The changes to the persons made by one command, in order.
+ * The sequence numbers of the changes follow on from one another, and from those of the previous batch, so a gap
+ * between two batches means that batches in between were missed.
+ * Guarantees: immutable, not empty.
+ */
+public final class PersonChangeBatch {
+
+    private final List<PersonChange> changes;
+
+    /**
+     * Creates a batch of {@code changes}, which must not be empty.
+     */
+    public PersonChangeBatch(List<PersonChange> changes) {
+        requireNonNull(changes);
+        assert !changes.isEmpty();
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public List<PersonChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the sequence number of the first change in this batch.
+     */
+    public long getFirstSequenceNumber() {
+        return changes.get(0).getSequenceNumber();
+    }
+
+    /**
+     * Returns the sequence number of the last change in this batch.
+     */
+    public long getLastSequenceNumber() {
+        return changes.get(changes.size() - 1).getSequenceNumber();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChangeBatch)) {
+            return false;
+        }
+
+        PersonChangeBatch otherBatch = (PersonChangeBatch) other;
+        return changes.equals(otherBatch.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return changes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changes", changes)
+                .toString();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Publishes the changes to a list of persons to subscribers, as batches of numbered {@code PersonChange}s.
+ * <p>
+ * Changes are recorded as they are made to the list, and published as one batch whenever {@link #publish()} is
+ * called. Each subscriber is sent batches on a thread of its own as it requests them, and has a buffer for the
+ * batches it has not requested yet. Publishing never waits for a subscriber: if the buffer of a subscriber is full,
+ * the batch is dropped for that subscriber, which then sees a gap in the sequence numbers, and should read the
+ * whole address book again.
+ */
+class PersonChangePublisher implements Flow.Publisher<PersonChangeBatch> {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonChangePublisher.class);
+
+    private final SubmissionPublisher<PersonChangeBatch> publisher;
+    // Only accessed by the thread that changes the list.
+    private List<PersonChange> pendingChanges = new ArrayList<>();
+    private long nextSequenceNumber = 1;
+
+    /**
+     * Creates a {@code PersonChangePublisher} for the changes to {@code persons}.
+     */
+    PersonChangePublisher(ObservableList<Person> persons) {
+        this(persons, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a {@code PersonChangePublisher} for the changes to {@code persons}, which sends the batches with
+     * {@code executor}, and buffers at most {@code maxBufferCapacity} batches for each subscriber.
+     */
+    PersonChangePublisher(ObservableList<Person> persons, Executor executor, int maxBufferCapacity) {
+        requireNonNull(persons);
+        requireNonNull(executor);
+        publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+        persons.addListener((ListChangeListener<? super Person>) this::record);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super PersonChangeBatch> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Publishes the changes made since the previous batch as one batch. Does nothing if there are none.
+     */
+    void publish() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        PersonChangeBatch batch = new PersonChangeBatch(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        publisher.offer(batch, (subscriber, droppedBatch) -> {
+            logger.warning("A subscriber is too slow to keep up with the changes, so changes "
+                    + droppedBatch.getFirstSequenceNumber() + " to " + droppedBatch.getLastSequenceNumber()
+                    + " were not sent to it");
+            return false;
+        });
+    }
+
+    private void record(ListChangeListener.Change<? extends Person> change) {
+        if (change.getList().isEmpty()) {
+            boolean isAnyRemoved = false;
+            while (change.next()) {
+                isAnyRemoved |= change.getRemovedSize() > 0;
+            }
+            if (isAnyRemoved) {
+                pendingChanges.add(PersonChange.cleared(nextSequenceNumber++));
+            }
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Neither changes which persons are in the list.
+                continue;
+            }
+            record(change.getRemoved(), change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Records the replacement of {@code removedPersons} with {@code addedPersons}. A person that was replaced by
+     * itself is left out. A single person replaced by another, or a person replaced by one with the same name,
+     * counts as replaced, and the others as removed or added.
+     */
+    private void record(List<? extends Person> removedPersons, List<? extends Person> addedPersons) {
+        if (removedPersons.size() == 1 && addedPersons.size() == 1) {
+            if (removedPersons.get(0) != addedPersons.get(0)) {
+                pendingChanges.add(PersonChange.replaced(nextSequenceNumber++, removedPersons.get(0),
+                        addedPersons.get(0)));
+            }
+            return;
+        }
+
+        Set<Person> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedSet.addAll(removedPersons);
+        Set<Person> unchangedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person addedPerson : addedPersons) {
+            if (removedSet.contains(addedPerson)) {
+                unchangedPersons.add(addedPerson);
+            }
+        }
+
+        Map<Name, Person> oldPersonsByName = new LinkedHashMap<>();
+        for (Person removedPerson : removedPersons) {
+            if (!unchangedPersons.contains(removedPerson)) {
+                oldPersonsByName.put(removedPerson.getName(), removedPerson);
+            }
+        }
+        List<Person> newPersons = new ArrayList<>();
+        Map<Person, Person> replacedPersons = new IdentityHashMap<>();
+        for (Person addedPerson : addedPersons) {
+            if (unchangedPersons.contains(addedPerson)) {
+                continue;
+            }
+            newPersons.add(addedPerson);
+            Person oldPerson = oldPersonsByName.remove(addedPerson.getName());
+            if (oldPerson != null) {
+                replacedPersons.put(addedPerson, oldPerson);
+            }
+        }
+
+        // Removals come first, so that a consumer never holds two persons with the same name or telegram handle.
+        for (Person removedPerson : oldPersonsByName.values()) {
+            pendingChanges.add(PersonChange.removed(nextSequenceNumber++, removedPerson));
+        }
+        for (Person newPerson : newPersons) {
+            Person oldPerson = replacedPersons.get(newPerson);
+            pendingChanges.add(oldPerson == null
+                    ? PersonChange.added(nextSequenceNumber++, newPerson)
+                    : PersonChange.replaced(nextSequenceNumber++, oldPerson, newPerson));
+        }
+    }
+}
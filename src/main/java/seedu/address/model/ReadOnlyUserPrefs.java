@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +17,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageSettings getStorageSettings();
+
+    /**
+     * Returns the saved views, each as the fields to search and the keywords for each, by name.
+     */
+    Map<String, Map<SearchField, List<String>>> getSavedViews();
+
 }
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * A saved filter of the persons, together with the persons that currently pass it.
+ * <p>
+ * The members are kept up to date as persons are added, replaced and removed, by testing only the persons that
+ * changed. Showing the view then only has to look each person up in the members, instead of matching every person
+ * against the keywords again.
+ */
+class SavedView {
+
+    private final PersonContainsKeywordsPredicate predicate;
+    // Persons are immutable and unique in the address book, so they are compared by identity, which is cheaper.
+    private final Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a {@code SavedView} of the persons in {@code persons} that match {@code predicate}.
+     */
+    SavedView(PersonContainsKeywordsPredicate predicate, List<Person> persons) {
+        requireNonNull(predicate);
+        requireNonNull(persons);
+        this.predicate = predicate;
+        update(List.of(), persons);
+    }
+
+    PersonContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Updates the members after {@code removedPersons} were replaced with {@code addedPersons}.
+     */
+    void update(List<? extends Person> removedPersons, List<? extends Person> addedPersons) {
+        removedPersons.forEach(members::remove);
+        for (Person addedPerson : addedPersons) {
+            if (predicate.test(addedPerson)) {
+                members.add(addedPerson);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is in the address book and matches the filter.
+     */
+    boolean contains(Person person) {
+        return members.contains(person);
+    }
+
+    int size() {
+        return members.size();
+    }
+}
@@ -4,9 +4,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
 
 /**
  * Represents User's preferences.
@@ -15,6 +21,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "academysource.json");
+    private StorageSettings storageSettings = new StorageSettings();
+    private Map<String, Map<SearchField, List<String>>> savedViews = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
+        setSavedViews(newUserPrefs.getSavedViews());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,34 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
+    public Map<String, Map<SearchField, List<String>>> getSavedViews() {
+        return Collections.unmodifiableMap(savedViews);
+    }
+
+    public void setSavedViews(Map<String, Map<SearchField, List<String>>> savedViews) {
+        requireNonNull(savedViews);
+        this.savedViews = new LinkedHashMap<>(savedViews);
+    }
+
+    /**
+     * Saves the view named {@code name} of the persons that match {@code fieldKeywordMap}, replacing any view
+     * with that name.
+     */
+    public void setSavedView(String name, Map<SearchField, List<String>> fieldKeywordMap) {
+        requireNonNull(name);
+        requireNonNull(fieldKeywordMap);
+        savedViews.put(name, fieldKeywordMap);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +107,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageSettings.equals(otherUserPrefs.storageSettings)
+                && savedViews.equals(otherUserPrefs.savedViews);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageSettings, savedViews);
     }
 
     @Override
@@ -82,6 +122,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
+        sb.append("\nSaved views : " + savedViews.keySet());
         return sb.toString();
     }
 
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.ModuleRegistry.Module;
+
+/**
+ * Represents a Person whose phone and email are only loaded when they are first needed.
+ * The fields used to check for duplicates and to build the module folders are known upfront, which lets a large
+ * address book be loaded without decoding and validating every contact detail.
+ * Guarantees: immutable; once loaded, the details are kept.
+ */
+public class LazyPerson extends Person {
+
+    // Guarded by this object's lock; cleared once the details are loaded, so that they are only loaded once.
+    private Supplier<Person> loader;
+    private volatile Person loadedPerson;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param loader returns the full person, whose phone and email are used for this person.
+     */
+    public LazyPerson(Name name, Role role, Set<Module> modules, Boolean isFavourite, Optional<Telegram> telegram,
+                      Supplier<Person> loader) {
+        super(name, role, modules, isFavourite, telegram);
+        requireNonNull(loader);
+        this.loader = loader;
+    }
+
+    @Override
+    public Phone getPhone() {
+        return getLoadedPerson().getPhone();
+    }
+
+    @Override
+    public Email getEmail() {
+        return getLoadedPerson().getEmail();
+    }
+
+    /**
+     * Returns true if the phone and email of this person have been loaded.
+     */
+    public boolean isLoaded() {
+        return loadedPerson != null;
+    }
+
+    private Person getLoadedPerson() {
+        Person person = loadedPerson;
+        if (person != null) {
+            return person;
+        }
+
+        synchronized (this) {
+            if (loadedPerson == null) {
+                loadedPerson = requireNonNull(loader.get());
+                loader = null;
+            }
+            return loadedPerson;
+        }
+    }
+}
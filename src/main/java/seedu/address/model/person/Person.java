@@ -59,6 +59,21 @@ public class Person {
         this.telegram = telegram;
     }
 
+    /**
+     * Constructs a person whose phone and email are provided by the subclass, see {@link LazyPerson}.
+     * The subclass must override {@link #getPhone()} and {@link #getEmail()}.
+     */
+    protected Person(Name name, Role role, Set<Module> modules, Boolean isFavourite, Optional<Telegram> telegram) {
+        requireAllNonNull(name, modules, isFavourite, telegram);
+        this.name = name;
+        this.phone = null;
+        this.email = null;
+        this.role = role;
+        this.modules.addAll(modules);
+        this.isFavourite = isFavourite;
+        this.telegram = telegram;
+    }
+
     public Name getName() {
         return name;
     }
@@ -151,18 +166,19 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        // The phone and email are compared last, as a lazily loaded person has to load them first.
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
                 && modules.equals(otherPerson.modules)
                 && isFavourite == (otherPerson.isFavourite)
-                && telegram.equals(otherPerson.telegram);
+                && telegram.equals(otherPerson.telegram)
+                && getPhone().equals(otherPerson.getPhone())
+                && getEmail().equals(otherPerson.getEmail());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own.
-        return Objects.hash(name, phone, email, modules, isFavourite, telegram);
+        return Objects.hash(name, getPhone(), getEmail(), modules, isFavourite, telegram);
 
     }
 
@@ -170,8 +186,8 @@ public class Person {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
+                .add("phone", getPhone())
+                .add("email", getEmail())
                 .add("telegram", telegram.isPresent() ? telegram.get().toString() : "")
                 .add("modules", modules)
                 .add("isFavourite", isFavourite)
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -37,6 +39,13 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.fieldKeywordMap = fieldKeywordMap;
     }
 
+    /**
+     * Returns the fields to search and the keywords for each, in the order of the fields.
+     */
+    public Map<SearchField, List<String>> getFieldKeywordMap() {
+        return Collections.unmodifiableMap(new TreeMap<>(fieldKeywordMap));
+    }
+
     @Override
     public boolean test(Person person) {
         return fieldKeywordMap.entrySet().stream()
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * Represents the telegram of a person in the addressbook. To be wrapped in an Optional object.
  * is valid as declared in {@link #isValidHandle(String)}.
@@ -25,6 +28,7 @@ public class Telegram {
             + NO_TRAILING_UNDERSCORE_REGEX;
 
     public static final String VALIDATION_REGEX = "^@" + HANDLE_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String handle;
 
@@ -42,7 +46,7 @@ public class Telegram {
      * Returns if a string is a valid telegram.
      */
     public static boolean isValidHandle(String handle) {
-        return handle.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(handle).matches();
     }
 
     @Override
@@ -67,7 +71,8 @@ public class Telegram {
 
     @Override
     public int hashCode() {
-        return handle.hashCode();
+        // Consistent with equals, which ignores case.
+        return handle.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +26,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The names and telegram handles in the list are also kept in hash sets, so checking for a duplicate takes constant
+ * time however long the list is. The sets are a by-product of the uniqueness check when the whole list is replaced,
+ * e.g. when the address book is loaded, and are kept up to date by every change after that.
+ *
  * @see Person#isSameName(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,13 +37,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Set<Name> names = new HashSet<>();
+    private Set<Telegram> telegrams = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent name of the Person to check.
      */
     public boolean containsName(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameName);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -45,7 +56,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (!toCheck.hasTelegram()) {
             return false;
         }
-        return internalList.stream().anyMatch(toCheck::isSameTelegram);
+        return telegrams.contains(toCheck.getTelegram().get());
     }
 
     /**
@@ -62,6 +73,29 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicateTelegramException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in one change.
+     * None of the persons may already exist in the list or share a name or telegram handle with each other.
+     * If any does, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> addedNames = new HashSet<>();
+        Set<Telegram> addedTelegrams = new HashSet<>();
+        for (Person person : toAdd) {
+            if (containsName(person) || !addedNames.add(person.getName())) {
+                throw new DuplicateNameException();
+            }
+            if (containsTelegram(person) || person.getTelegram().filter(t -> !addedTelegrams.add(t)).isPresent()) {
+                throw new DuplicateTelegramException();
+            }
+        }
+        internalList.addAll(toAdd);
+        names.addAll(addedNames);
+        telegrams.addAll(addedTelegrams);
     }
 
     /**
@@ -85,6 +119,26 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        removeFromIndex(target);
+        addToIndex(editedPerson);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * All the persons must be in the list, as the same objects. If any is not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        // The persons to remove are the ones in the list, so they are found by reference, which does not load
+        // lazily loaded persons as hashing them would.
+        Set<Person> personsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        personsToRemove.addAll(toRemove);
+        long foundCount = internalList.stream().filter(personsToRemove::contains).count();
+        if (foundCount != personsToRemove.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.removeAll(personsToRemove);
+        personsToRemove.forEach(this::removeFromIndex);
     }
 
     /**
@@ -96,11 +150,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndex(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        names = new HashSet<>(replacement.names);
+        telegrams = new HashSet<>(replacement.telegrams);
     }
 
     /**
@@ -109,9 +166,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (personsAreUnique(persons)) {
-            internalList.setAll(persons);
+        Set<Name> newNames = new HashSet<>();
+        Set<Telegram> newTelegrams = new HashSet<>();
+        for (Person person : persons) {
+            if (!newNames.add(person.getName())) {
+                throw new DuplicateNameException();
+            }
+
+            if (person.hasTelegram() && !newTelegrams.add(person.getTelegram().get())) {
+                throw new DuplicateTelegramException();
+            }
         }
+
+        internalList.setAll(persons);
+        names = newNames;
+        telegrams = newTelegrams;
     }
 
     /**
@@ -151,23 +220,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameName(persons.get(j))) {
-                    throw new DuplicateNameException();
-                }
-
-                if (persons.get(i).hasTelegram() && persons.get(j).hasTelegram()) {
-                    if (persons.get(i).isSameTelegram(persons.get(j))) {
-                        throw new DuplicateTelegramException();
-                    }
-                }
-            }
-        }
-        return true;
+    private void addToIndex(Person person) {
+        names.add(person.getName());
+        person.getTelegram().ifPresent(telegrams::add);
+    }
+
+    private void removeFromIndex(Person person) {
+        names.remove(person.getName());
+        person.getTelegram().ifPresent(telegrams::remove);
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Carries the address book over when the storage settings change, so that the data saved with the old settings
+ * is not left behind. The address book is only converted when there is no data file in the new format yet, or when
+ * the user asks for it in the storage settings.
+ */
+public class AddressBookConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    /**
+     * Copies the address book from {@code source} to {@code target}, replacing any data in {@code target}.
+     * A journal next to the source file is replayed, so changes that were not compacted yet are carried over.
+     *
+     * @return true if the address book was copied, or false if {@code source} holds no address book.
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if the address book could not be written to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Path targetFilePath = target.getAddressBookFilePath();
+        if (!Files.exists(sourceFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try (JournaledAddressBookStorage journaledSource = new JournaledAddressBookStorage(source)) {
+            addressBook = journaledSource.readAddressBook();
+        }
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        target.flushAddressBook();
+        logger.info("Converted " + addressBook.get().getPersonList().size() + " persons from " + sourceFilePath
+                + " to " + targetFilePath);
+        return true;
+    }
+
+    /**
+     * Copies the address book to {@code target} if it has no data file yet, e.g. because the data file format was
+     * switched since the last run. If several of {@code sources} hold an address book, the one changed last is
+     * copied.
+     *
+     * @return true if the address book was copied.
+     * @throws DataLoadingException if the address book could not be read from the chosen source.
+     * @throws IOException if the address book could not be written to {@code target}.
+     */
+    public static boolean convertIfMissing(Collection<AddressBookStorage> sources, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(sources, target);
+        if (Files.exists(target.getAddressBookFilePath())) {
+            return false;
+        }
+
+        AddressBookStorage newestSource = null;
+        FileTime newestLastModifiedTime = null;
+        for (AddressBookStorage source : sources) {
+            Path sourceFilePath = source.getAddressBookFilePath();
+            if (!Files.exists(sourceFilePath)) {
+                continue;
+            }
+            FileTime lastModifiedTime = getLastModifiedTime(sourceFilePath);
+            if (newestLastModifiedTime == null || lastModifiedTime.compareTo(newestLastModifiedTime) > 0) {
+                newestSource = source;
+                newestLastModifiedTime = lastModifiedTime;
+            }
+        }
+        return newestSource != null && convert(newestSource, target);
+    }
+
+    /**
+     * Replays the journal next to the data file of {@code storage} into the data file, and deletes the journal.
+     * Does nothing if there is no journal. This keeps the changes in the journal when journaling is turned off.
+     *
+     * @throws DataLoadingException if the address book could not be read from the data file and its journal.
+     * @throws IOException if the address book could not be written to the data file.
+     */
+    public static void foldJournal(AddressBookStorage storage) throws DataLoadingException, IOException {
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(storage.getAddressBookFilePath());
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try (JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(storage)) {
+            addressBook = journaledStorage.readAddressBook();
+        }
+        if (addressBook.isPresent()) {
+            logger.info("Writing the changes in " + journalFilePath + " into " + storage.getAddressBookFilePath());
+            storage.saveAddressBook(addressBook.get());
+            storage.flushAddressBook();
+        }
+        Files.delete(journalFilePath);
+    }
+
+    /**
+     * Returns the time the data at {@code filePath} was last changed, including changes appended to its journal.
+     */
+    private static FileTime getLastModifiedTime(Path filePath) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        if (Files.exists(journalFilePath)) {
+            FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalFilePath);
+            if (journalLastModifiedTime.compareTo(lastModifiedTime) > 0) {
+                return journalLastModifiedTime;
+            }
+        }
+        return lastModifiedTime;
+    }
+}
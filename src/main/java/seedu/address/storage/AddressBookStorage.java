@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every earlier save has been written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
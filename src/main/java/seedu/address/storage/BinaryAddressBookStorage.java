@@ -0,0 +1,504 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.ModuleRegistry;
+import seedu.address.model.person.ModuleRegistry.Module;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header made up of a magic number, the format version and the number of persons,
+ * followed by a table with the offset of each person's record. Each record holds a flags byte, the ordinal of
+ * the person's {@code Role}, a bitmask over the ordinals of the person's modules in {@code ModuleRegistry},
+ * and then the name, phone, email and telegram handle as length-prefixed UTF-8 strings. The telegram handle is
+ * only present if the flags say so. All numbers are big-endian.
+ * <p>
+ * The file is read through a memory-mapped buffer, which avoids copying it into memory before decoding.
+ * In lazy mode, only the fields needed upfront are decoded at startup, and the rest of each record is decoded
+ * from the mapped file when the person's details are first needed.
+ * <p>
+ * A mapped file cannot be replaced on every platform while it is mapped, and the mapping is only released once
+ * the buffer is garbage collected. So each save writes the records to a new data file next to the address book
+ * file, and the address book file itself only holds the name of the current data file. Data files that are no
+ * longer current are deleted once they are no longer mapped.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_INVALID_FORMAT = "File is not an address book in the expected format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book file version %d is not supported.";
+    public static final String MESSAGE_DAMAGED_RECORD = "Person record at offset %d is damaged.";
+    public static final String MESSAGE_TOO_MANY_MODULES =
+            "The binary format holds at most %1$d registered modules, but %2$d are registered.";
+
+    static final int MAGIC = 0x41534246; // "ASBF"
+    static final int POINTER_MAGIC = 0x41534250; // "ASBP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+    static final int MAX_MODULE_COUNT = Integer.SIZE;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DATA_FILE_SUFFIX = ".data";
+
+    private static final int FLAG_FAVOURITE = 1;
+    private static final int FLAG_TELEGRAM = 1 << 1;
+    private static final int SCRATCH_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isLazy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isLazy whether the phone and email of each person are only decoded when first needed,
+     *     see {@link LazyPerson}. The file stays mapped into memory until every person is loaded.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy) {
+        this.filePath = filePath;
+        this.isLazy = isLazy;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file that is kept in place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        List<Person> persons;
+        try {
+            persons = readPersons(readRecords(filePath), isLazy);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | BufferUnderflowException | IndexOutOfBoundsException
+                | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicateNameException | DuplicateTelegramException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the records of the address book file at {@code filePath}, mapped from its current data file.
+     * A file that holds the records itself, as written before data files were kept apart, is read into memory
+     * instead, so that it can still be replaced by the next save.
+     */
+    private static ByteBuffer readRecords(Path filePath) throws IOException, IllegalValueException {
+        Path dataFilePath = getDataFilePath(filePath);
+        if (dataFilePath.equals(filePath)) {
+            return ByteBuffer.wrap(Files.readAllBytes(filePath));
+        }
+        try (FileChannel channel = FileChannel.open(dataFilePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Returns the path of the current data file of the address book file at {@code filePath}, or
+     * {@code filePath} itself if it does not name a data file.
+     *
+     * @throws IllegalValueException if the name of the data file is not valid.
+     */
+    static Path getDataFilePath(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (Files.size(filePath) < Integer.BYTES || in.readInt() != POINTER_MAGIC) {
+                return filePath;
+            }
+            String dataFileName = in.readUTF();
+            Path dataFilePath = filePath.resolveSibling(dataFileName);
+            if (!dataFilePath.getFileName().toString().equals(dataFileName)
+                    || !dataFileName.endsWith(DATA_FILE_SUFFIX)) {
+                throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+            }
+            return dataFilePath;
+        }
+    }
+
+    /**
+     * Decodes the persons stored in {@code buffer}.
+     *
+     * @param isLazy whether to only decode the fields that a {@code LazyPerson} needs upfront.
+     * @throws IllegalValueException if the data is not in the expected format or violates any data constraints.
+     */
+    private static List<Person> readPersons(ByteBuffer buffer, boolean isLazy) throws IllegalValueException {
+        int personCount = readHeader(buffer);
+        List<Person> persons = new ArrayList<>(personCount);
+        // The loaders of lazy persons share this buffer, so its position must never change.
+        ByteBuffer records = buffer.duplicate();
+        byte[] scratch = new byte[SCRATCH_SIZE];
+        for (int i = 0; i < personCount; i++) {
+            int offset = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+            buffer.position(offset);
+            persons.add(isLazy ? readLazyPerson(buffer, scratch, records, offset) : readPerson(buffer, scratch));
+        }
+        return persons;
+    }
+
+    /**
+     * Checks the header at the start of {@code buffer} and returns the number of persons in the file.
+     *
+     * @throws IllegalValueException if the header is not valid.
+     */
+    static int readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int personCount = buffer.getInt(2 * Integer.BYTES);
+        if (personCount < 0 || (long) HEADER_SIZE + (long) personCount * Integer.BYTES > buffer.limit()) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        return personCount;
+    }
+
+    /**
+     * Decodes the person record at the current position of {@code buffer}.
+     *
+     * @param scratch a reusable buffer for decoding strings.
+     * @throws IllegalValueException if the role or modules are not valid.
+     * @throws IllegalArgumentException if any other field violates the data constraints.
+     */
+    static Person readPerson(ByteBuffer buffer, byte[] scratch) throws IllegalValueException {
+        int flags = buffer.get();
+        int roleOrdinal = buffer.get();
+        int moduleMask = buffer.getInt();
+        String name = readString(buffer, scratch);
+        String phone = readString(buffer, scratch);
+        String email = readString(buffer, scratch);
+        String telegram = (flags & FLAG_TELEGRAM) != 0 ? readString(buffer, scratch) : null;
+
+        // Records are only ever written from valid persons, so the constructors' own checks are enough to catch
+        // a damaged file. Checking each field beforehand as well would double the cost of loading.
+        return new Person(new Name(name), new Phone(phone), new Email(email), toRole(roleOrdinal),
+                toModules(moduleMask), (flags & FLAG_FAVOURITE) != 0,
+                Optional.ofNullable(telegram).map(Telegram::new));
+    }
+
+    /**
+     * Decodes the person record at the current position of {@code buffer} into a {@code LazyPerson}, skipping
+     * the phone and email. These are decoded from {@code records} at {@code offset} when first needed.
+     *
+     * @throws IllegalValueException if the role or modules are not valid.
+     * @throws IllegalArgumentException if the name or telegram handle violates the data constraints.
+     */
+    static Person readLazyPerson(ByteBuffer buffer, byte[] scratch, ByteBuffer records, int offset)
+            throws IllegalValueException {
+        int flags = buffer.get();
+        int roleOrdinal = buffer.get();
+        int moduleMask = buffer.getInt();
+        String name = readString(buffer, scratch);
+        skipString(buffer);
+        skipString(buffer);
+        String telegram = (flags & FLAG_TELEGRAM) != 0 ? readString(buffer, scratch) : null;
+
+        Supplier<Person> loader = () -> loadPerson(records, offset);
+        return new LazyPerson(new Name(name), toRole(roleOrdinal), toModules(moduleMask),
+                (flags & FLAG_FAVOURITE) != 0, Optional.ofNullable(telegram).map(Telegram::new), loader);
+    }
+
+    /**
+     * Decodes the full person record at {@code offset} in {@code records}, for a {@code LazyPerson}.
+     *
+     * @throws IllegalStateException if the record is damaged.
+     */
+    private static Person loadPerson(ByteBuffer records, int offset) {
+        ByteBuffer record = records.duplicate();
+        record.position(offset);
+        try {
+            return readPerson(record, new byte[SCRATCH_SIZE]);
+        } catch (IllegalValueException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalStateException(String.format(MESSAGE_DAMAGED_RECORD, offset), e);
+        }
+    }
+
+    private static Role toRole(int roleOrdinal) throws IllegalValueException {
+        Role[] roles = Role.values();
+        if (roleOrdinal < 0 || roleOrdinal >= roles.length) {
+            throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
+        }
+        return roles[roleOrdinal];
+    }
+
+    private static Set<Module> toModules(int moduleMask) throws IllegalValueException {
+        ModuleRegistry[] registeredModules = ModuleRegistry.values();
+        // Java only uses the low 5 bits of a shift count, so the mask cannot be shifted by all of its bits.
+        int moduleCount = Math.min(registeredModules.length, MAX_MODULE_COUNT);
+        if (moduleCount < MAX_MODULE_COUNT && (moduleMask >>> moduleCount) != 0) {
+            throw new IllegalValueException(ModuleRegistry.MESSAGE_UNREGISTERED_MODULE);
+        }
+        Set<Module> modules = new HashSet<>();
+        for (int i = 0; i < moduleCount; i++) {
+            if ((moduleMask & (1 << i)) != 0) {
+                modules.add(registeredModules[i].getModule());
+            }
+        }
+        return modules;
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] scratch) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void skipString(ByteBuffer buffer) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The records are streamed to a new data file first, and the offset table is filled in once all offsets are
+     * known. The file at {@code filePath} is then replaced with one that names the new data file, so that the
+     * data file the last read mapped, which lazy persons may still be backed by, is never written to.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path dataFilePath = Files.createTempFile(directory, this.filePath.getFileName() + ".", DATA_FILE_SUFFIX);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writeAddressBook(addressBook, dataFilePath);
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tempFilePath))) {
+                out.writeInt(POINTER_MAGIC);
+                out.writeUTF(dataFilePath.getFileName().toString());
+            }
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(dataFilePath);
+            throw e;
+        }
+        deleteUnusedDataFiles(directory);
+    }
+
+    /**
+     * Deletes the data files written by this storage in {@code directory} that no file there names anymore.
+     * Files that are still mapped, on platforms that do not allow deleting them, are left for a later save.
+     * Saves hold this storage's lock, so a data file that is still being written is never deleted.
+     */
+    private void deleteUnusedDataFiles(Path directory) {
+        Pattern dataFileName = Pattern.compile(Pattern.quote(filePath.getFileName() + ".") + "\\d+"
+                + Pattern.quote(DATA_FILE_SUFFIX));
+        Set<Path> dataFilePaths = new HashSet<>();
+        Set<Path> usedDataFilePaths = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (dataFileName.matcher(file.getFileName().toString()).matches()) {
+                    dataFilePaths.add(file);
+                } else if (Files.isRegularFile(file)) {
+                    getNamedDataFilePath(file).ifPresent(usedDataFilePaths::add);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not list the data files in " + directory + ": " + StringUtil.getDetails(e));
+            return;
+        }
+
+        dataFilePaths.removeAll(usedDataFilePaths);
+        for (Path unusedDataFilePath : dataFilePaths) {
+            try {
+                Files.deleteIfExists(unusedDataFilePath);
+            } catch (IOException e) {
+                logger.fine("Could not delete the unused data file " + unusedDataFilePath
+                        + ", it may still be mapped: " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Returns the data file that the file at {@code file} names, if it is an address book file that names one.
+     */
+    private static Optional<Path> getNamedDataFilePath(Path file) throws IOException {
+        try {
+            Path dataFilePath = getDataFilePath(file);
+            return dataFilePath.equals(file) ? Optional.empty() : Optional.of(dataFilePath);
+        } catch (IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the records of {@code addressBook} to the existing file at {@code filePath}.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        checkModuleCount(ModuleRegistry.values().length);
+        List<Person> persons = addressBook.getPersonList();
+        int tableSize = persons.size() * Integer.BYTES;
+        ByteBuffer offsetTable = ByteBuffer.allocate(tableSize);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(persons.size());
+            out.write(new byte[tableSize]);
+            for (Person person : persons) {
+                offsetTable.putInt(out.size());
+                writePerson(out, person);
+            }
+            out.flush();
+
+            offsetTable.flip();
+            channel.write(offsetTable, HEADER_SIZE);
+        }
+    }
+
+    /**
+     * Checks that the modules of every person can be encoded in the bitmask of a record.
+     *
+     * @throws IOException if more than {@value #MAX_MODULE_COUNT} modules are registered.
+     */
+    static void checkModuleCount(int registeredModuleCount) throws IOException {
+        if (registeredModuleCount > MAX_MODULE_COUNT) {
+            throw new IOException(String.format(MESSAGE_TOO_MANY_MODULES, MAX_MODULE_COUNT, registeredModuleCount));
+        }
+    }
+
+    /**
+     * Encodes {@code person} as a record.
+     */
+    static void writePerson(DataOutputStream out, Person person) throws IOException {
+        int flags = (person.getIsFavourite() ? FLAG_FAVOURITE : 0)
+                | (person.hasTelegram() ? FLAG_TELEGRAM : 0);
+        out.writeByte(flags);
+        out.writeByte(person.getRole().ordinal());
+        out.writeInt(getModuleMask(person.getModules()));
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        if (person.hasTelegram()) {
+            writeString(out, person.getTelegram().get().toString());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns the bitmask with the bit at each module's {@code ModuleRegistry} ordinal set.
+     */
+    private static int getModuleMask(Set<Module> modules) {
+        int moduleMask = 0;
+        for (ModuleRegistry registeredModule : ModuleRegistry.values()) {
+            if (modules.contains(registeredModule.getModule())) {
+                moduleMask |= 1 << registeredModule.ordinal();
+            }
+        }
+        return moduleMask;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is never anything pending.
+    }
+
+}
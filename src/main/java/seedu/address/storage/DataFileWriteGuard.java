@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Runs the writes that a storage makes to its data file outside of a save, such as a journal compaction, so that
+ * a storage wrapping it can tell them apart from changes made by other programs.
+ */
+@FunctionalInterface
+public interface DataFileWriteGuard {
+
+    /** A guard that runs writes without keeping track of them. */
+    DataFileWriteGuard NONE = Write::run;
+
+    /**
+     * Runs {@code write}, which writes to the data file.
+     */
+    void guard(Write write) throws IOException;
+
+    /**
+     * A write to the data file.
+     */
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The size and modification time of a file, which change whenever the file is written.
+ */
+class FileStamp {
+
+    private static final Logger logger = LogsCenter.getLogger(FileStamp.class);
+
+    private final long size;
+    private final FileTime lastModifiedTime;
+
+    private FileStamp(long size, FileTime lastModifiedTime) {
+        this.size = size;
+        this.lastModifiedTime = lastModifiedTime;
+    }
+
+    /**
+     * Returns the stamp of the file at {@code filePath}, or null if there is no such file.
+     */
+    static FileStamp of(Path filePath) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new FileStamp(attributes.size(), attributes.lastModifiedTime());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warning("Failed to read the attributes of " + filePath + ": " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FileStamp)) {
+            return false;
+        }
+
+        FileStamp otherFileStamp = (FileStamp) other;
+        return size == otherFileStamp.size && lastModifiedTime.equals(otherFileStamp.lastModifiedTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModifiedTime);
+    }
+}
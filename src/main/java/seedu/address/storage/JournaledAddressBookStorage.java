@@ -0,0 +1,491 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
+
+/**
+ * An {@code AddressBookStorage} that records each change as a small entry appended to a journal file, instead of
+ * rewriting the whole data file. The data file written by the wrapped storage serves as the snapshot that the
+ * journal applies to. Once the journal grows past a size threshold, a background compaction writes a new snapshot
+ * and starts a new journal with only the entries that were appended while the snapshot was being written.
+ * <p>
+ * The journal lives next to the data file and holds one JSON record per line. The first line is the checksum of
+ * the snapshot that the journal belongs to, so a journal left behind by an interrupted compaction is recognised as
+ * stale and ignored.
+ * <p>
+ * A storage that is only used for a while, e.g. to read an address book once, must be closed to stop the
+ * compactor thread.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String COMPACTION_FILE_SUFFIX = ".compaction";
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final ExecutorService compactor;
+    private volatile DataFileWriteGuard dataFileWriteGuard = DataFileWriteGuard.NONE;
+
+    // The fields below are guarded by this object's lock.
+    // The address book as it would be read back from the snapshot and the journal, or null if the journal cannot
+    // be appended to and the next save has to write a full snapshot.
+    private ReadOnlyAddressBook persistedAddressBook;
+    private long journalSize;
+    // Counts the journals started so far, so a compaction can tell that the journal it read from was replaced.
+    private long journalGeneration;
+    // The stamp of the data file when it was last read or written, to notice when another program replaces it.
+    private FileStamp snapshotFileStamp;
+    private boolean isCompactionScheduled;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage} and
+     * compacts the journal once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Sets the guard that the data file is replaced through when the journal is compacted.
+     */
+    public void setDataFileWriteGuard(DataFileWriteGuard dataFileWriteGuard) {
+        requireNonNull(dataFileWriteGuard);
+        this.dataFileWriteGuard = dataFileWriteGuard;
+    }
+
+    /**
+     * Returns the file path of the journal that belongs to the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Loads the snapshot and replays the journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        persistedAddressBook = null;
+        journalGeneration++;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<String> journal;
+        long journalFileSize;
+        try {
+            long snapshotChecksum = computeChecksum(filePath);
+            journal = readJournalLines(journalFilePath);
+            if (!isJournalOf(journal, snapshotChecksum)) {
+                Path tempJournalFilePath = getTempFilePath(journalFilePath);
+                List<String> tempJournal = readJournalLines(tempJournalFilePath);
+                if (isJournalOf(tempJournal, snapshotChecksum)) {
+                    // A compaction was interrupted after moving the snapshot into place, but before its journal.
+                    logger.info("Recovering journal of " + filePath + " from an interrupted compaction.");
+                    Files.move(tempJournalFilePath, journalFilePath,
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    journal = tempJournal;
+                }
+            }
+            journalFileSize = Files.exists(journalFilePath) ? Files.size(journalFilePath) : 0;
+            if (!isJournalOf(journal, snapshotChecksum)) {
+                logger.info("No journal for " + filePath + " found, or the journal belongs to an older snapshot.");
+                return snapshot;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        boolean isJournalIntact = true;
+        for (int i = 1; i < journal.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(journal.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i != journal.size() - 1) {
+                    logger.warning("Error reading journal " + journalFilePath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                // Only the last entry can be cut short by a crash while it was being appended.
+                logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                isJournalIntact = false;
+                break;
+            }
+
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicateNameException | DuplicateTelegramException e) {
+            logger.info("Duplicate persons found in " + journalFilePath);
+            throw new DataLoadingException(e);
+        }
+
+        // A last entry that lost its line break would be joined with the next entry appended after it.
+        long expectedJournalSize = journal.stream()
+                .mapToLong(line -> line.getBytes(StandardCharsets.UTF_8).length + 1)
+                .sum();
+        if (isJournalIntact && expectedJournalSize == journalFileSize) {
+            persistedAddressBook = AddressBookSnapshot.of(addressBook);
+            journalSize = journalFileSize;
+            snapshotFileStamp = FileStamp.of(filePath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Appends the difference to the last saved address book to the journal. A full snapshot is only written
+     * for the first save, or after the journal could not be read or written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        if (persistedAddressBook != null && !isSnapshotUnchanged()) {
+            logger.info("Data file " + filePath + " was replaced by another program, starting a new journal.");
+            persistedAddressBook = null;
+        }
+        if (persistedAddressBook == null) {
+            writeSnapshot(snapshot);
+            persistedAddressBook = snapshot;
+            return;
+        }
+
+        Optional<JsonAdaptedJournalEntry> entry = computeChange(
+                persistedAddressBook.getPersonList(), snapshot.getPersonList());
+        if (entry.isPresent()) {
+            appendToJournal(entry.get());
+        }
+        persistedAddressBook = snapshot;
+
+        if (journalSize > compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Waits for a running compaction to finish.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            compactor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        snapshotStorage.flushAddressBook();
+    }
+
+    /**
+     * Stops the compactor thread once a compaction that is already queued or running is done.
+     * The storage must not be saved to after it is closed.
+     */
+    @Override
+    public void close() {
+        compactor.shutdown();
+    }
+
+    /**
+     * Returns the change that turns {@code oldPersons} into {@code newPersons}, or {@code Optional.empty()} if
+     * the lists are the same. A save can hold the changes of several commands, or of one command that changes
+     * persons far apart, so the change is made up of the separate ranges that differ. They are found by matching
+     * the persons of both lists in order, so only reordered persons end up in larger ranges than needed.
+     */
+    private static Optional<JsonAdaptedJournalEntry> computeChange(List<Person> oldPersons, List<Person> newPersons) {
+        // Persons are immutable and every change creates a new object, so comparing references is enough.
+        Map<Person, Integer> oldIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < oldPersons.size(); i++) {
+            oldIndexes.put(oldPersons.get(i), i);
+        }
+
+        List<JsonAdaptedJournalEntry.Range> ranges = new ArrayList<>();
+        int oldIndex = 0;
+        int rangeStart = 0;
+        for (int newIndex = 0; newIndex < newPersons.size(); newIndex++) {
+            Integer matchingOldIndex = oldIndexes.get(newPersons.get(newIndex));
+            if (matchingOldIndex == null || matchingOldIndex < oldIndex) {
+                continue;
+            }
+            addRange(ranges, oldIndex, matchingOldIndex - oldIndex, newPersons.subList(rangeStart, newIndex));
+            oldIndex = matchingOldIndex + 1;
+            rangeStart = newIndex + 1;
+        }
+        addRange(ranges, oldIndex, oldPersons.size() - oldIndex,
+                newPersons.subList(rangeStart, newPersons.size()));
+
+        if (ranges.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(ranges));
+    }
+
+    /**
+     * Adds the range that replaces {@code removeCount} persons at {@code index} with {@code addedPersons} to
+     * {@code ranges}, unless it changes nothing.
+     */
+    private static void addRange(List<JsonAdaptedJournalEntry.Range> ranges, int index, int removeCount,
+            List<Person> addedPersons) {
+        if (removeCount == 0 && addedPersons.isEmpty()) {
+            return;
+        }
+        ranges.add(new JsonAdaptedJournalEntry.Range(index, removeCount, addedPersons.stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Appends {@code entry} to the journal and forces it to the disk.
+     */
+    private void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(line));
+            channel.force(false);
+        } catch (IOException e) {
+            // The journal may now end with part of the entry, so start over with a full snapshot next time.
+            persistedAddressBook = null;
+            throw e;
+        }
+        journalSize += line.length;
+    }
+
+    /**
+     * Writes the last saved address book as a new snapshot. Runs on the compactor thread only.
+     * The snapshot is written without holding the lock, so saves keep appending to the current journal meanwhile.
+     * Those entries are carried over to the new journal when the snapshot is moved into place.
+     */
+    private void compact() {
+        ReadOnlyAddressBook addressBook;
+        long compactedJournalSize;
+        long compactedJournalGeneration;
+        synchronized (this) {
+            if (persistedAddressBook == null || journalSize <= compactionThreshold) {
+                isCompactionScheduled = false;
+                return;
+            }
+            addressBook = persistedAddressBook;
+            compactedJournalSize = journalSize;
+            compactedJournalGeneration = journalGeneration;
+        }
+
+        logger.fine("Compacting journal of " + getAddressBookFilePath());
+        Path filePath = getAddressBookFilePath();
+        Path compactionFilePath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        try {
+            snapshotStorage.saveAddressBook(addressBook, compactionFilePath);
+            long checksum = computeChecksum(compactionFilePath);
+            dataFileWriteGuard.guard(() -> {
+                synchronized (this) {
+                    if (persistedAddressBook == null || journalGeneration != compactedJournalGeneration
+                            || !isSnapshotUnchanged()) {
+                        // The journal or the data file was replaced in the meantime.
+                        Files.deleteIfExists(compactionFilePath);
+                        return;
+                    }
+                    byte[] newEntries = readJournalFrom(compactedJournalSize);
+                    installSnapshot(compactionFilePath, checksum, newEntries);
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal of " + getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            synchronized (this) {
+                persistedAddressBook = null;
+            }
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * Replaces the data file with {@code addressBook} and starts an empty journal for it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        Path tempFilePath = getTempFilePath(getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook, tempFilePath);
+        installSnapshot(tempFilePath, computeChecksum(tempFilePath), new byte[0]);
+    }
+
+    /**
+     * Moves the snapshot at {@code snapshotFilePath} into place as the data file, and starts a journal for it that
+     * holds {@code journalEntries}.
+     * The journal is written to a temporary file before the snapshot is moved, and then moved into place itself.
+     * A crash at any point leaves either the old snapshot with its journal, or the new snapshot with a temporary
+     * journal that is recovered on the next read.
+     */
+    private void installSnapshot(Path snapshotFilePath, long checksum, byte[] journalEntries) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path tempJournalFilePath = getTempFilePath(journalFilePath);
+
+        byte[] header = (checksum + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(tempJournalFilePath);
+        try (FileChannel channel = FileChannel.open(tempJournalFilePath,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(new ByteBuffer[] {ByteBuffer.wrap(header), ByteBuffer.wrap(journalEntries)});
+            channel.force(false);
+        }
+        Files.move(snapshotFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempJournalFilePath, journalFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journalSize = header.length + journalEntries.length;
+        journalGeneration++;
+        snapshotFileStamp = FileStamp.of(filePath);
+    }
+
+    /**
+     * Returns true if the data file is still the snapshot that was last read or written by this storage.
+     */
+    private boolean isSnapshotUnchanged() {
+        FileStamp fileStamp = FileStamp.of(getAddressBookFilePath());
+        return fileStamp != null && fileStamp.equals(snapshotFileStamp);
+    }
+
+    /**
+     * Returns the entries appended to the journal after its first {@code position} bytes.
+     */
+    private byte[] readJournalFrom(long position) throws IOException {
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(journalSize - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Journal " + journalFilePath + " is shorter than expected");
+                }
+            }
+            return buffer.array();
+        }
+    }
+
+    private static List<String> readJournalLines(Path journalFilePath) throws IOException {
+        return Files.exists(journalFilePath) ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8) : List.of();
+    }
+
+    private static boolean isJournalOf(List<String> journal, long snapshotChecksum) {
+        return !journal.isEmpty() && journal.get(0).equals(Long.toString(snapshotChecksum));
+    }
+
+    private static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code filePath}, reading it in fixed-size chunks.
+     */
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // The checksum is updated as the file is read.
+            }
+        }
+        return checksum.getValue();
+    }
+}
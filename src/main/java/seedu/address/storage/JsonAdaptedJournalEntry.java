@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the person list, as recorded in the journal.
+ * A change is made up of ranges that do not overlap, in ascending order of position. Each range replaces
+ * {@code removeCount} persons starting at {@code index} with {@code persons}, where {@code index} is the position
+ * in the list before the change. This is enough to describe any number of adds, edits and deletes in one save.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not fit the person list.";
+
+    private final List<Range> ranges = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given ranges.
+     */
+    public JsonAdaptedJournalEntry(List<Range> ranges) {
+        this.ranges.addAll(ranges);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} from its JSON properties. Entries written before a change could
+     * span several ranges hold the details of their single range instead of {@code ranges}.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("ranges") List<Range> ranges,
+            @JsonProperty("index") int index, @JsonProperty("removeCount") int removeCount,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (ranges != null) {
+            this.ranges.addAll(ranges);
+        } else {
+            this.ranges.add(new Range(index, removeCount, persons));
+        }
+    }
+
+    /**
+     * Applies this change to {@code target}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code target}, or if any of the added persons
+     *     violates the data constraints.
+     */
+    public void applyTo(List<Person> target) throws IllegalValueException {
+        List<Person> changedPersons = new ArrayList<>(target.size());
+        int targetIndex = 0;
+        for (Range range : ranges) {
+            if (range.index < targetIndex || range.removeCount < 0
+                    || range.index + range.removeCount > target.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+            }
+            changedPersons.addAll(target.subList(targetIndex, range.index));
+            for (JsonAdaptedPerson jsonAdaptedPerson : range.persons) {
+                changedPersons.add(jsonAdaptedPerson.toModelType());
+            }
+            targetIndex = range.index + range.removeCount;
+        }
+        changedPersons.addAll(target.subList(targetIndex, target.size()));
+
+        target.clear();
+        target.addAll(changedPersons);
+    }
+
+    /**
+     * Jackson-friendly version of the persons replaced in one range of the list.
+     */
+    static class Range {
+        private final int index;
+        private final int removeCount;
+        private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+        /**
+         * Constructs a {@code Range} with the given details.
+         */
+        @JsonCreator
+        Range(@JsonProperty("index") int index, @JsonProperty("removeCount") int removeCount,
+                @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+            this.index = index;
+            this.removeCount = removeCount;
+            if (persons != null) {
+                this.persons.addAll(persons);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book.
+ * The manifest names the file that holds each shard in the current generation of the address book.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given generation and shard file names.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+}
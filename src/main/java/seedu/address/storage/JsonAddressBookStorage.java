@@ -1,30 +1,72 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Persons are streamed to and from the file one at a time, so the whole file is never held in memory.
+ * The file can optionally be gzip-compressed.
+ * <p>
+ * The JSON text of each person is kept from one save to the next. Persons are immutable, so a person object that
+ * was saved before is written out again as is, and only new or edited persons are encoded on each save.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+    // Persons are written inside the address book object.
+    private static final int PERSON_DEPTH = 1;
+
     private Path filePath;
+    private final boolean isCompact;
+    private final int compressionLevel;
+    // The JSON text of the persons in the last save, keyed by the person object.
+    private Map<Person, String> encodedPersons = new IdentityHashMap<>();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, JsonUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     * Files are read whether they are compressed or not.
+     *
+     * @param isCompact whether the file should be written without indentation and line breaks.
+     * @param compressionLevel the gzip compression level to write the file with, or
+     *     {@link JsonUtil#NO_COMPRESSION} to write plain JSON.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, int compressionLevel) {
+        checkArgument(JsonUtil.isValidCompressionLevel(compressionLevel), JsonUtil.MESSAGE_INVALID_COMPRESSION_LEVEL);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +87,69 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads an address book from {@code parser}. Persons are handed to a {@code ParallelPersonConverter} as soon
+     * as they have been parsed, so parsing and conversion overlap, and conversion is spread over all processors.
+     * The persons are checked for duplicates all at once, which is much faster than adding them one by one.
+     *
+     * @throws IOException if the data is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> persons;
+        try (ParallelPersonConverter converter = new ParallelPersonConverter()) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals(PERSONS_FIELD)) {
+                    // Unknown fields are ignored, as they are for all other JSON files.
+                    parser.skipChildren();
+                    continue;
+                }
+
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+                        token = parser.nextToken()) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected a person object");
+                    }
+                    converter.add(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of address book");
+            }
+            persons = converter.finish();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicateNameException | DuplicateTelegramException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -67,14 +158,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
      *
+     * Persons that were saved in the last save are not encoded again.
+     *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        // Only the persons of this save are kept, so removed persons do not stay in memory.
+        Map<Person, String> newEncodedPersons = new IdentityHashMap<>();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath, isCompact, compressionLevel)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                String encodedPerson = encodedPersons.get(person);
+                if (encodedPerson == null) {
+                    encodedPerson = JsonUtil.toJsonFragment(new JsonAdaptedPerson(person), isCompact, PERSON_DEPTH);
+                }
+                newEncodedPersons.put(person, encodedPerson);
+                generator.writeRawValue(encodedPerson);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        encodedPersons = newEncodedPersons;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is never anything pending.
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -11,7 +12,8 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -42,17 +44,17 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted in parallel, see {@link ParallelPersonConverter}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     * @throws InterruptedIOException if interrupted while converting the persons.
      */
-    public AddressBook toModelType() throws IllegalValueException {
+    public AddressBook toModelType() throws IllegalValueException, InterruptedIOException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasName(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(ParallelPersonConverter.convertAll(persons));
+        } catch (DuplicateNameException | DuplicateTelegramException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
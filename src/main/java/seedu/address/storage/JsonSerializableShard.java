@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * A shard of a sharded address book that is serializable to JSON format.
+ * Each person is stored together with a sort key that gives its position in the whole person list.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_KEY_MISMATCH = "Shard does not have exactly one sort key for each person.";
+
+    private final List<Long> keys = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given sort keys and persons.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("keys") List<Long> keys,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (keys != null) {
+            this.keys.addAll(keys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    public List<Long> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Converts the persons in this shard into the model's {@code Person} objects, in the same order as the keys.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        if (keys.size() != persons.size() || keys.contains(null)) {
+            throw new IllegalValueException(MESSAGE_KEY_MISMATCH);
+        }
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Converts {@code JsonAdaptedPerson} records into {@code Person} objects on a pool of worker threads.
+ * Records are grouped into chunks as they are added, and each chunk is converted as a whole on a worker.
+ * The converted chunks are collected in the order they were added, so the result keeps the original order.
+ * Records are checked for duplicate names and telegram handles as they are collected, so the error reported is
+ * always the one of the first invalid or duplicate record, as it would be when converting them one by one, no
+ * matter which worker finds an error first.
+ * Only a few chunks are converted at a time, so that a long stream of records is not buffered in full.
+ */
+class ParallelPersonConverter implements AutoCloseable {
+
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final ExecutorService workers;
+    private final Queue<Future<ConvertedChunk>> pendingChunks = new ArrayDeque<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+    private final Set<Telegram> telegrams = new HashSet<>();
+    private List<JsonAdaptedPerson> currentChunk = new ArrayList<>();
+
+    /**
+     * Creates a {@code ParallelPersonConverter} with one worker for each available processor.
+     */
+    ParallelPersonConverter() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} with {@code workerCount} workers, which converts records in
+     * chunks of {@code chunkSize}.
+     */
+    ParallelPersonConverter(int workerCount, int chunkSize) {
+        this.chunkSize = chunkSize;
+        maxPendingChunks = 2 * workerCount;
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "person-converter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Converts all of {@code jsonAdaptedPersons} and returns the persons in the same order.
+     *
+     * @throws IllegalValueException if any record violates the data constraints, or has the name or telegram
+     *     handle of an earlier record.
+     * @throws InterruptedIOException if interrupted while waiting for the conversion.
+     */
+    static List<Person> convertAll(List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException, InterruptedIOException {
+        try (ParallelPersonConverter converter = new ParallelPersonConverter()) {
+            for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                converter.add(jsonAdaptedPerson);
+            }
+            return converter.finish();
+        }
+    }
+
+    /**
+     * Queues {@code jsonAdaptedPerson} for conversion.
+     * If too many chunks are waiting, blocks until the oldest one is converted.
+     *
+     * @throws IllegalValueException if an earlier record violates the data constraints, or is a duplicate.
+     * @throws InterruptedIOException if interrupted while waiting for the conversion.
+     */
+    void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException, InterruptedIOException {
+        requireNonNull(jsonAdaptedPerson);
+        currentChunk.add(jsonAdaptedPerson);
+        if (currentChunk.size() < chunkSize) {
+            return;
+        }
+
+        submitCurrentChunk();
+        while (pendingChunks.size() > maxPendingChunks) {
+            collectOldestChunk();
+        }
+    }
+
+    /**
+     * Waits for all queued records to be converted and returns the persons in the order they were added.
+     *
+     * @throws IllegalValueException if any record violates the data constraints, or has the name or telegram
+     *     handle of an earlier record.
+     * @throws InterruptedIOException if interrupted while waiting for the conversion.
+     */
+    List<Person> finish() throws IllegalValueException, InterruptedIOException {
+        submitCurrentChunk();
+        while (!pendingChunks.isEmpty()) {
+            collectOldestChunk();
+        }
+        return persons;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    private void submitCurrentChunk() {
+        if (currentChunk.isEmpty()) {
+            return;
+        }
+        List<JsonAdaptedPerson> chunk = currentChunk;
+        pendingChunks.add(workers.submit(() -> convertChunk(chunk)));
+        currentChunk = new ArrayList<>();
+    }
+
+    /**
+     * Adds the persons of the oldest chunk to the result, and throws the error of the first record in it that is
+     * invalid or a duplicate.
+     */
+    private void collectOldestChunk() throws IllegalValueException, InterruptedIOException {
+        ConvertedChunk chunk = takeOldestChunk();
+        for (Person person : chunk.persons) {
+            if (!names.add(person.getName())
+                    || person.getTelegram().filter(telegram -> !telegrams.add(telegram)).isPresent()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        if (chunk.error != null) {
+            throw chunk.error;
+        }
+    }
+
+    private ConvertedChunk takeOldestChunk() throws InterruptedIOException {
+        try {
+            return pendingChunks.remove().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while converting persons");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Converts the records of {@code chunk} in order, up to the first invalid one.
+     */
+    private static ConvertedChunk convertChunk(List<JsonAdaptedPerson> chunk) {
+        List<Person> convertedPersons = new ArrayList<>(chunk.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : chunk) {
+            try {
+                convertedPersons.add(jsonAdaptedPerson.toModelType());
+            } catch (IllegalValueException e) {
+                return new ConvertedChunk(convertedPersons, e);
+            }
+        }
+        return new ConvertedChunk(convertedPersons, null);
+    }
+
+    /**
+     * The persons converted from a chunk, and the error of the record that stopped the conversion, if any.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final IllegalValueException error;
+
+        ConvertedChunk(List<Person> persons, IllegalValueException error) {
+            this.persons = persons;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateNameException;
+import seedu.address.model.person.exceptions.DuplicateTelegramException;
+
+/**
+ * An {@code AddressBookStorage} that splits the address book across a number of shard files, chosen by a hash of
+ * each person's name. A save only rewrites the shards whose persons changed since the last read or save, so a small
+ * edit to a large address book is a small write. The shards are read in parallel.
+ * <p>
+ * The data file is a manifest that names the file of each shard in the current generation. Changed shards are
+ * written to new files first, and the manifest is then replaced in one atomic move, so a crash leaves either the old
+ * or the new generation, never a mix of both. Each person is stored with a sort key that keeps its position in the
+ * person list, so the order of the list survives the split.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count should be a positive number.";
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s named in the manifest is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String MANIFEST_FILE_EXTENSION = ".shards.json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    // The gap left between the keys of neighbouring persons, so that persons inserted between them later can be
+    // given keys without renumbering the whole list.
+    private static final long KEY_GAP = 1L << 20;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final Path filePath;
+    private final int shardCount;
+
+    // The fields below are guarded by this object's lock.
+    // The shards as they are in the files named by the manifest, or null if that is not known and the next save
+    // has to write all shards.
+    private List<Shard> persistedShards;
+    private final Map<Person, Long> persistedKeys = new IdentityHashMap<>();
+    private long generation;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} with its manifest at {@code filePath}, which splits the address
+     * book into {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        checkArgument(shardCount > 0, MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the manifest that is kept in place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + MANIFEST_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            persistedShards = null;
+            persistedKeys.clear();
+        }
+
+        Optional<JsonAdaptedShardManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Shard> shards = readShards(filePath, manifest.get().getShards());
+        List<Map.Entry<Long, Person>> entries = new ArrayList<>();
+        for (Shard shard : shards) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                entries.add(Map.entry(shard.keys.get(i), shard.persons.get(i)));
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey());
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(entries.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+        } catch (DuplicateNameException | DuplicateTelegramException e) {
+            logger.info("Duplicate persons found in the shards of " + filePath);
+            throw new DataLoadingException(e);
+        }
+
+        if (isOwnFile) {
+            // Shards written with another shard count are rewritten in full on the next save.
+            persistedShards = shards.size() == shardCount ? shards : null;
+            entries.forEach(entry -> persistedKeys.put(entry.getValue(), entry.getKey()));
+            generation = manifest.get().getGeneration();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that changed since the last read or save are written. All shards are written if
+     * {@code filePath} is not the manifest of this storage.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            List<Shard> shards = splitIntoShards(persons, assignNewKeys(persons));
+            writeGeneration(filePath, readGeneration(filePath) + 1, shards);
+            return;
+        }
+
+        List<Long> keys = assignKeys(persons);
+        List<Shard> shards = splitIntoShards(persons, keys);
+        boolean hasChanges = persistedShards == null;
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = shards.get(i);
+            if (persistedShards != null && shard.hasSameEntries(persistedShards.get(i))) {
+                shard.fileName = persistedShards.get(i).fileName;
+            } else {
+                hasChanges = true;
+            }
+        }
+        if (!hasChanges) {
+            return;
+        }
+
+        writeGeneration(filePath, generation + 1, shards);
+        generation++;
+        persistedShards = shards;
+        persistedKeys.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            persistedKeys.put(persons.get(i), keys.get(i));
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is never anything pending.
+    }
+
+    /**
+     * Returns sort keys for {@code persons} that increase along the list. Persons keep the key they were saved
+     * with where possible, and the other persons are given keys in the gaps between them, so an edit only changes
+     * the keys of the persons that were added or replaced. The whole list is renumbered if a gap runs out.
+     */
+    private List<Long> assignKeys(List<Person> persons) {
+        List<Long> keys = new ArrayList<>(persons.size());
+        long previousKey = 0;
+        int i = 0;
+        while (i < persons.size()) {
+            Long savedKey = persistedKeys.get(persons.get(i));
+            if (savedKey != null && savedKey > previousKey) {
+                keys.add(savedKey);
+                previousKey = savedKey;
+                i++;
+                continue;
+            }
+
+            // Spread the run of persons without a usable key evenly over the gap before the next usable key.
+            int runEnd = i + 1;
+            Long nextKey = null;
+            while (runEnd < persons.size() && nextKey == null) {
+                Long key = persistedKeys.get(persons.get(runEnd));
+                if (key != null && key > previousKey) {
+                    nextKey = key;
+                } else {
+                    runEnd++;
+                }
+            }
+            long step = nextKey == null ? KEY_GAP : (nextKey - previousKey) / (runEnd - i + 1);
+            if (step == 0) {
+                return assignNewKeys(persons);
+            }
+            for (int j = i; j < runEnd; j++) {
+                previousKey += step;
+                keys.add(previousKey);
+            }
+            i = runEnd;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns evenly spaced sort keys for {@code persons}.
+     */
+    private static List<Long> assignNewKeys(List<Person> persons) {
+        List<Long> keys = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            keys.add((i + 1) * KEY_GAP);
+        }
+        return keys;
+    }
+
+    private List<Shard> splitIntoShards(List<Person> persons, List<Long> keys) {
+        List<Shard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Shard shard = shards.get(Math.floorMod(persons.get(i).getName().hashCode(), shardCount));
+            shard.persons.add(persons.get(i));
+            shard.keys.add(keys.get(i));
+        }
+        return shards;
+    }
+
+    /**
+     * Writes the shards that do not have a file yet, and then points the manifest at {@code manifestFilePath} to
+     * the files of all {@code shards}. Shard files that the manifest no longer names are deleted afterwards.
+     */
+    private static void writeGeneration(Path manifestFilePath, long generation, List<Shard> shards)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(manifestFilePath);
+        String shardFilePrefix = getShardFilePrefix(manifestFilePath);
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            if (shard.fileName != null) {
+                continue;
+            }
+            String fileName = shardFilePrefix + i + "-" + generation + JSON_FILE_EXTENSION;
+            List<JsonAdaptedPerson> jsonAdaptedPersons = shard.persons.stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList());
+            JsonUtil.saveJsonFile(new JsonSerializableShard(shard.keys, jsonAdaptedPersons),
+                    manifestFilePath.resolveSibling(fileName));
+            shard.fileName = fileName;
+        }
+
+        List<String> fileNames = shards.stream().map(shard -> shard.fileName).collect(Collectors.toList());
+        Path tempFilePath = manifestFilePath.resolveSibling(manifestFilePath.getFileName() + TEMP_FILE_SUFFIX);
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(generation, fileNames), tempFilePath);
+        Files.move(tempFilePath, manifestFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteUnusedShardFiles(manifestFilePath, new HashSet<>(fileNames));
+    }
+
+    /**
+     * Deletes the shard files of the manifest at {@code manifestFilePath} that are not in {@code usedFileNames},
+     * including files left behind by a save that was interrupted before the manifest was replaced.
+     */
+    private static void deleteUnusedShardFiles(Path manifestFilePath, Set<String> usedFileNames) {
+        String shardFilePrefix = getShardFilePrefix(manifestFilePath);
+        Path directory = manifestFilePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, file -> {
+            String fileName = file.getFileName().toString();
+            return fileName.startsWith(shardFilePrefix) && fileName.endsWith(JSON_FILE_EXTENSION)
+                    && !usedFileNames.contains(fileName);
+        })) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            logger.warning("Unused shard files of " + manifestFilePath + " could not be deleted: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code manifestFilePath}, or 0 if there is no readable manifest.
+     */
+    private static long readGeneration(Path manifestFilePath) {
+        try {
+            return JsonUtil.readJsonFile(manifestFilePath, JsonAdaptedShardManifest.class)
+                    .map(JsonAdaptedShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    private static String getShardFilePrefix(Path manifestFilePath) {
+        String fileName = manifestFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return fileName + "-";
+    }
+
+    /**
+     * Reads the shard files named {@code fileNames} next to the manifest at {@code manifestFilePath}, with one
+     * thread for each processor.
+     */
+    private static List<Shard> readShards(Path manifestFilePath, List<String> fileNames)
+            throws DataLoadingException {
+        int readerCount = Math.max(1, Math.min(fileNames.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService readers = Executors.newFixedThreadPool(readerCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-reader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Shard>> pendingShards = new ArrayList<>();
+            for (String fileName : fileNames) {
+                pendingShards.add(readers.submit(() -> readShard(manifestFilePath, fileName)));
+            }
+            List<Shard> shards = new ArrayList<>();
+            for (Future<Shard> pendingShard : pendingShards) {
+                shards.add(pendingShard.get());
+            }
+            return shards;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(new InterruptedIOException("Interrupted while reading shards"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static Shard readShard(Path manifestFilePath, String fileName) throws DataLoadingException {
+        Path shardFilePath = manifestFilePath.resolveSibling(fileName);
+        Optional<JsonSerializableShard> jsonShard = JsonUtil.readJsonFile(shardFilePath, JsonSerializableShard.class);
+        if (!jsonShard.isPresent()) {
+            throw new DataLoadingException(new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, fileName)));
+        }
+
+        Shard shard = new Shard();
+        try {
+            shard.persons.addAll(jsonShard.get().toModelPersons());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        shard.keys.addAll(jsonShard.get().getKeys());
+        shard.fileName = fileName;
+        return shard;
+    }
+
+    /**
+     * The persons of one shard with their sort keys, in the order of the person list.
+     */
+    private static class Shard {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Long> keys = new ArrayList<>();
+        // The file the shard is stored in, or null if it has not been written yet.
+        private String fileName;
+
+        /**
+         * Returns true if {@code other} holds the same person objects with the same keys.
+         * Persons are immutable and every change creates a new object, so comparing references is enough.
+         */
+        boolean hasSameEntries(Shard other) {
+            if (persons.size() != other.persons.size()) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (persons.get(i) != other.persons.get(i) || !keys.get(i).equals(other.keys.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
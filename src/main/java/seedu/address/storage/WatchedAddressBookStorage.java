@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that watches its data file for changes made by other programs, e.g. a script that
+ * regenerates the file while the app is running.
+ * <p>
+ * The storage remembers the address book it last read or wrote, and the size and modification time of the data
+ * file at that point, so that its own writes are not mistaken for changes by other programs. Writes that the
+ * wrapped storage makes on its own, such as journal compactions, are run through
+ * {@link #guardDataFileWrite(DataFileWriteGuard.Write)} for the same reason. When the file changes otherwise, it is
+ * read on the watcher thread with a separate reader, so that the state of the wrapped storage is left alone, and
+ * the differences to the remembered address book are handed to a listener, which can then merge them into the model.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_SETTLE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final AddressBookStorage externalReader;
+    private final long settleDelayMillis;
+
+    // The fields below are guarded by this object's lock.
+    // The address book in the data file as last read or written by this storage, or null if there is none.
+    private ReadOnlyAddressBook persistedAddressBook;
+    private FileStamp persistedFileStamp;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that watches the data file of {@code storage}, and reads changes
+     * by other programs with {@code externalReader}.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage, AddressBookStorage externalReader) {
+        this(storage, externalReader, DEFAULT_SETTLE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that watches the data file of {@code storage}, and reads changes
+     * by other programs with {@code externalReader} once the file has not changed for {@code settleDelayMillis}
+     * milliseconds.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage, AddressBookStorage externalReader,
+            long settleDelayMillis) {
+        requireNonNull(storage);
+        requireNonNull(externalReader);
+        this.storage = storage;
+        this.externalReader = externalReader;
+        this.settleDelayMillis = settleDelayMillis;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedAddressBook = addressBook.map(AddressBookSnapshot::new).orElse(null);
+            persistedFileStamp = FileStamp.of(filePath);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        storage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedAddressBook = AddressBookSnapshot.of(addressBook);
+            persistedFileStamp = FileStamp.of(filePath);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        storage.flushAddressBook();
+    }
+
+    /**
+     * Runs {@code write}, a write to the data file that the wrapped storage makes outside of a save, and remembers
+     * the data file as written by this storage.
+     * The address book last saved stays the same, as the wrapped storage still holds it.
+     */
+    public synchronized void guardDataFileWrite(DataFileWriteGuard.Write write) throws IOException {
+        requireNonNull(write);
+        Path filePath = getAddressBookFilePath();
+        // A change by another program that was not picked up yet must not be mistaken for this write.
+        boolean isFileUnchanged = Objects.equals(FileStamp.of(filePath), persistedFileStamp);
+        try {
+            write.run();
+        } finally {
+            if (isFileUnchanged) {
+                persistedFileStamp = FileStamp.of(filePath);
+            }
+        }
+    }
+
+    /**
+     * Starts watching the data file on a background thread. Whenever another program changes the data file,
+     * {@code listener} is called on that thread with the changes.
+     *
+     * @throws IOException if the folder of the data file cannot be watched.
+     */
+    public synchronized void startWatching(Consumer<AddressBookDelta> listener) throws IOException {
+        requireNonNull(listener);
+        if (watchService != null) {
+            return;
+        }
+
+        Path folder = getAddressBookFilePath().toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        WatchService newWatchService = FileSystems.getDefault().newWatchService();
+        try {
+            folder.register(newWatchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            newWatchService.close();
+            throw e;
+        }
+        watchService = newWatchService;
+
+        Thread watcher = new Thread(() -> watch(newWatchService, listener), "data-file-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching " + getAddressBookFilePath() + " for changes by other programs");
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching " + getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+        }
+        watchService = null;
+    }
+
+    /**
+     * Waits for changes to the data file until {@code watchService} is closed.
+     */
+    private void watch(WatchService watchService, Consumer<AddressBookDelta> listener) {
+        Path fileName = getAddressBookFilePath().getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isDataFileChanged = key.pollEvents().stream()
+                        .map(WatchEvent::context)
+                        .anyMatch(fileName::equals);
+                key.reset();
+                if (!isDataFileChanged) {
+                    continue;
+                }
+
+                // A program that is still writing the file keeps changing the folder, so wait for it to finish.
+                for (WatchKey nextKey = watchService.poll(settleDelayMillis, TimeUnit.MILLISECONDS); nextKey != null;
+                        nextKey = watchService.poll(settleDelayMillis, TimeUnit.MILLISECONDS)) {
+                    nextKey.pollEvents();
+                    nextKey.reset();
+                }
+                checkForExternalChanges().ifPresent(listener);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Reads the data file if it was changed by another program since it was last read or written, and returns
+     * the changes, or {@code Optional.empty()} if there are none.
+     */
+    synchronized Optional<AddressBookDelta> checkForExternalChanges() {
+        Path filePath = getAddressBookFilePath();
+        FileStamp fileStamp = FileStamp.of(filePath);
+        if (fileStamp == null || fileStamp.equals(persistedFileStamp)) {
+            return Optional.empty();
+        }
+        persistedFileStamp = fileStamp;
+
+        Optional<ReadOnlyAddressBook> externalAddressBook;
+        try {
+            externalAddressBook = externalReader.readAddressBook(filePath);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file " + filePath + " was changed by another program, but could not be loaded: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+        if (!externalAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        ReadOnlyAddressBook newPersistedAddressBook = new AddressBookSnapshot(externalAddressBook.get());
+        AddressBookDelta delta = AddressBookDelta.between(
+                persistedAddressBook == null ? new AddressBook() : persistedAddressBook, newPersistedAddressBook);
+        persistedAddressBook = newPersistedAddressBook;
+        if (delta.isEmpty()) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " was changed by another program: " + delta.size() + " persons");
+        return Optional.of(delta);
+    }
+}
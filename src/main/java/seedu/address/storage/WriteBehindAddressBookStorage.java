@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes to another {@code AddressBookStorage} on a background thread.
+ * Each save only takes an immutable snapshot of the address book, so the caller never waits for the disk.
+ * Saves that arrive while a write is still queued replace the queued snapshot, which collapses a burst of
+ * changes into a single write. A failed write is passed to the write failure listener right away, and retried
+ * after a delay that doubles with each failure in a row. Until a write succeeds, the failure is also thrown by the
+ * next call to {@link #saveAddressBook(ReadOnlyAddressBook)} or {@link #flushAddressBook()}.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+    public static final long MAX_RETRY_DELAY_MILLIS = 60 * 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ScheduledExecutorService writer;
+    private final long initialRetryDelayMillis;
+
+    // The fields below are guarded by this object's lock.
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private long retryDelayMillis;
+    private Consumer<IOException> writeFailureListener = failure -> { };
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code addressBookStorage}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code addressBookStorage}, and first retries
+     * a failed write after {@code initialRetryDelayMillis}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage, long initialRetryDelayMillis) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        retryDelayMillis = initialRetryDelayMillis;
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the listener that is told about each failed background write as soon as it fails. The listener is
+     * called on the writer thread.
+     */
+    public synchronized void setWriteFailureListener(Consumer<IOException> writeFailureListener) {
+        requireNonNull(writeFailureListener);
+        this.writeFailureListener = writeFailureListener;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Waits for queued writes to finish first, so that the data read back includes every earlier save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Pending changes could not be written before reading " + filePath + ": " + e);
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if an earlier background write failed. The given address book is still queued.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        synchronized (this) {
+            pendingSnapshots.put(filePath, snapshot);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingSnapshots);
+            }
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes all queued snapshots and waits for the writes to complete.
+     *
+     * @throws IOException if a background write failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            writer.submit(this::writePendingSnapshots).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        addressBookStorage.flushAddressBook();
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes the queued snapshots. Runs on the writer thread only.
+     * If a write fails, the listener is told, and another attempt is scheduled after the retry delay.
+     */
+    private void writePendingSnapshots() {
+        Map<Path, ReadOnlyAddressBook> snapshots;
+        synchronized (this) {
+            snapshots = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+            isWriteScheduled = false;
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> entry : snapshots.entrySet()) {
+            Path filePath = entry.getKey();
+            try {
+                addressBookStorage.saveAddressBook(entry.getValue(), filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to write address book to " + filePath + ": " + StringUtil.getDetails(e));
+                failure = e;
+                synchronized (this) {
+                    // Keep the failed snapshot for the next attempt, unless a newer one has been queued.
+                    pendingSnapshots.putIfAbsent(filePath, entry.getValue());
+                }
+            }
+        }
+
+        Consumer<IOException> listener;
+        synchronized (this) {
+            writeFailure = failure;
+            if (failure == null) {
+                retryDelayMillis = initialRetryDelayMillis;
+                return;
+            }
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                logger.info("Retrying the write in " + retryDelayMillis + " ms");
+                writer.schedule(this::writePendingSnapshots, retryDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            listener = writeFailureListener;
+        }
+        listener.accept(failure);
+    }
+
+    /**
+     * Rethrows the last background write failure, if any, and clears it.
+     */
+    private void throwWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
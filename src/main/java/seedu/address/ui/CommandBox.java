@@ -1,25 +1,29 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.InputHistory;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run in the background, and the user can keep typing, and entering more commands, while they do.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
+    private static final String BUSY_PROMPT_TEXT = "Running command... (you can type the next one)";
 
     private final CommandExecutor commandExecutor;
     private final InputHistory historyNavigator;
+    private final String defaultPromptText;
+    private int pendingCommandCount;
 
     @FXML
     private TextField commandTextField;
@@ -31,6 +35,7 @@ public class CommandBox extends UiPart<Region> {
         super(FXML);
         this.commandExecutor = commandExecutor;
         this.historyNavigator = new InputHistory();
+        this.defaultPromptText = commandTextField.getPromptText();
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, oldText, newText) -> {
             onTextChanged(newText);
@@ -50,11 +55,42 @@ public class CommandBox extends UiPart<Region> {
         }
 
         historyNavigator.enterInput(commandText);
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        pendingCommandCount++;
+        setBusy(true);
+        commandExecutor.execute(commandText, isSuccessful -> handleCommandCompleted(commandText, isSuccessful));
+    }
+
+    /**
+     * Handles the completion of the command {@code commandText}.
+     * A failed command is put back for the user to correct, unless they have started typing another one.
+     */
+    private void handleCommandCompleted(String commandText, boolean isSuccessful) {
+        pendingCommandCount--;
+        setBusy(pendingCommandCount > 0);
+        if (isSuccessful || !commandTextField.getText().isEmpty()) {
+            return;
+        }
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Shows whether there are commands that have not completed yet.
+     */
+    private void setBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (isBusy == styleClass.contains(BUSY_STYLE_CLASS)) {
+            return;
+        }
+
+        if (isBusy) {
+            styleClass.add(BUSY_STYLE_CLASS);
+            commandTextField.setPromptText(BUSY_PROMPT_TEXT);
+        } else {
+            styleClass.remove(BUSY_STYLE_CLASS);
+            commandTextField.setPromptText(defaultPromptText);
         }
     }
 
@@ -116,11 +152,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and calls {@code onCompletion} on the JavaFX application thread once it
+         * has completed, with whether it succeeded.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Consumer<Boolean> onCompletion);
     }
 
 }
@@ -0,0 +1,317 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs everything that changes the model on a single worker thread, so that a slow command does not freeze the UI.
+ * <p>
+ * The worker is the only thread that touches the model. Tasks run one at a time in the order they were submitted,
+ * so a command entered while another one is running waits for its turn. The UI shows copies of the model's person
+ * lists, which are brought up to date on the JavaFX application thread after each task that changed them, together
+ * with the outcome of the task.
+ */
+public class LogicWorker {
+
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(LogicWorker.class);
+
+    private final Logic logic;
+    private final Executor worker;
+    private final Executor fxExecutor;
+    private final ListCopy filteredPersons;
+    private final ListCopy unfilteredPersons;
+    // Guarded by this object's lock, so that no task is queued after the last one that shutdown waits for.
+    private boolean isShutdown;
+
+    /**
+     * Creates a {@code LogicWorker} that runs the tasks for {@code logic} on a new thread.
+     */
+    public LogicWorker(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logic-worker");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code LogicWorker} that runs the tasks for {@code logic} with {@code worker}, which must run them
+     * one at a time, and publishes their outcomes with {@code fxExecutor}.
+     * Must be created before any task changes the model.
+     */
+    LogicWorker(Logic logic, Executor worker, Executor fxExecutor) {
+        requireNonNull(logic);
+        requireNonNull(worker);
+        requireNonNull(fxExecutor);
+        this.logic = logic;
+        this.worker = worker;
+        this.fxExecutor = fxExecutor;
+        filteredPersons = new ListCopy(logic.getFilteredPersonList());
+        unfilteredPersons = new ListCopy(logic.getUnfilteredPersonList());
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of persons, which is only changed on the JavaFX application
+     * thread.
+     */
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons.getReadOnlyCopy();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the unfiltered list of persons, which is only changed on the JavaFX
+     * application thread.
+     */
+    public ObservableList<Person> getUnfilteredPersonList() {
+        return unfilteredPersons.getReadOnlyCopy();
+    }
+
+    /**
+     * Queues {@code commandText} for execution. Once it has run, either {@code onSuccess} is called with its result,
+     * or {@code onFailure} with the reason it failed, on the JavaFX application thread.
+     *
+     * @see Logic#execute(String)
+     */
+    public void execute(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        requireNonNull(commandText);
+        submit(() -> logic.execute(commandText), onSuccess, onFailure);
+    }
+
+    /**
+     * Queues a change of the filter of the filtered person list to {@code predicate}.
+     *
+     * @see Logic#updatePredicateViaGui(Predicate)
+     */
+    public void updatePredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        submit(() -> {
+            logic.updatePredicateViaGui(predicate);
+            return null;
+        }, unused -> { }, unused -> { });
+    }
+
+    /**
+     * Queues a merge of {@code delta}, the changes another program made to the data file. Once it has run,
+     * {@code onSuccess} is called with the feedback on the JavaFX application thread.
+     *
+     * @see Logic#mergeExternalChanges(AddressBookDelta)
+     */
+    public void mergeExternalChanges(AddressBookDelta delta, Consumer<String> onSuccess) {
+        requireNonNull(delta);
+        submit(() -> logic.mergeExternalChanges(delta), onSuccess, unused -> { });
+    }
+
+    /**
+     * Queues a change of the GUI settings to {@code guiSettings}, so that it is made on the worker along with the
+     * other changes to the user preferences.
+     *
+     * @see Logic#setGuiSettings(GuiSettings)
+     */
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        submit(() -> {
+            logic.setGuiSettings(guiSettings);
+            return null;
+        }, unused -> { }, unused -> { });
+    }
+
+    /**
+     * Stops accepting tasks and waits for the queued ones to finish, for at most {@value #SHUTDOWN_TIMEOUT_SECONDS}
+     * seconds. Tasks submitted afterwards are dropped.
+     *
+     * @return true if all queued tasks have finished, so the model is no longer changed by the worker.
+     */
+    public boolean shutdownAndAwait() {
+        CountDownLatch queuedTasksFinished = new CountDownLatch(1);
+        synchronized (this) {
+            isShutdown = true;
+            worker.execute(queuedTasksFinished::countDown);
+        }
+        if (worker instanceof ExecutorService) {
+            ((ExecutorService) worker).shutdown();
+        }
+
+        try {
+            if (queuedTasksFinished.await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            logger.warning("Logic worker did not finish its queued tasks within " + SHUTDOWN_TIMEOUT_SECONDS
+                    + " seconds");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the logic worker to finish its queued tasks");
+        }
+        return false;
+    }
+
+    private synchronized <T> void submit(Callable<T> task, Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        requireNonNull(onSuccess);
+        requireNonNull(onFailure);
+        if (isShutdown) {
+            logger.info("Dropping a task submitted after the logic worker was shut down");
+            return;
+        }
+        worker.execute(() -> {
+            Runnable outcome;
+            try {
+                T result = task.call();
+                outcome = () -> onSuccess.accept(result);
+            } catch (CommandException | ParseException e) {
+                outcome = () -> onFailure.accept(e);
+            } catch (Exception e) {
+                logger.severe("Unexpected error on the logic worker: " + StringUtil.getDetails(e));
+                outcome = () -> onFailure.accept(e);
+            }
+
+            // Both copies are updated in the same pulse as the outcome, so the UI never shows one without the other.
+            Runnable filteredUpdate = filteredPersons.takeUpdate();
+            Runnable unfilteredUpdate = unfilteredPersons.takeUpdate();
+            Runnable publishedOutcome = outcome;
+            fxExecutor.execute(() -> {
+                filteredUpdate.run();
+                unfilteredUpdate.run();
+                publishedOutcome.run();
+            });
+        });
+    }
+
+    /**
+     * A copy of a list in the model, which is only changed on the JavaFX application thread.
+     * <p>
+     * The ranges changed in the source are recorded as they happen, so that bringing the copy up to date only costs
+     * as much as the changes. If the source is reordered, or is changed in more places than it has persons, the
+     * whole source is copied instead.
+     */
+    static class ListCopy {
+        private final ObservableList<Person> source;
+        private final ObservableList<Person> copy;
+        private final ObservableList<Person> readOnlyCopy;
+        // Only accessed on the worker thread.
+        private List<RangeEdit> pendingEdits = new ArrayList<>();
+        private boolean isFullCopyNeeded;
+
+        ListCopy(ObservableList<Person> source) {
+            this.source = source;
+            copy = FXCollections.observableArrayList(source);
+            readOnlyCopy = FXCollections.unmodifiableObservableList(copy);
+            source.addListener(this::recordChange);
+        }
+
+        ObservableList<Person> getReadOnlyCopy() {
+            return readOnlyCopy;
+        }
+
+        private void recordChange(ListChangeListener.Change<? extends Person> change) {
+            while (change.next()) {
+                if (isFullCopyNeeded) {
+                    continue;
+                }
+                if (change.wasPermutated() || change.wasUpdated() || pendingEdits.size() >= source.size()) {
+                    isFullCopyNeeded = true;
+                    pendingEdits.clear();
+                    continue;
+                }
+                pendingEdits.add(new RangeEdit(change.getFrom(), change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+
+        /**
+         * Returns an update that brings the copy in line with the source as it is now, to be run on the JavaFX
+         * application thread. Must be called on the worker thread.
+         */
+        Runnable takeUpdate() {
+            if (isFullCopyNeeded) {
+                isFullCopyNeeded = false;
+                List<Person> snapshot = new ArrayList<>(source);
+                return () -> update(copy, snapshot);
+            }
+            if (pendingEdits.isEmpty()) {
+                return () -> { };
+            }
+            List<RangeEdit> edits = pendingEdits;
+            pendingEdits = new ArrayList<>();
+            return () -> edits.forEach(edit -> edit.apply(copy));
+        }
+
+        /**
+         * Changes {@code target} into {@code snapshot}, replacing only the range between their common prefix and
+         * suffix, so that the list views showing {@code target} keep their scroll position and selection.
+         */
+        static void update(List<Person> target, List<Person> snapshot) {
+            int maxCommonLength = Math.min(target.size(), snapshot.size());
+            int prefixLength = 0;
+            while (prefixLength < maxCommonLength && target.get(prefixLength) == snapshot.get(prefixLength)) {
+                prefixLength++;
+            }
+            int suffixLength = 0;
+            while (suffixLength < maxCommonLength - prefixLength
+                    && target.get(target.size() - 1 - suffixLength)
+                            == snapshot.get(snapshot.size() - 1 - suffixLength)) {
+                suffixLength++;
+            }
+
+            int targetEnd = target.size() - suffixLength;
+            int snapshotEnd = snapshot.size() - suffixLength;
+            if (prefixLength < targetEnd) {
+                target.subList(prefixLength, targetEnd).clear();
+            }
+            if (prefixLength < snapshotEnd) {
+                target.addAll(prefixLength, snapshot.subList(prefixLength, snapshotEnd));
+            }
+        }
+    }
+
+    /**
+     * One range of a list that was changed, which replaced {@code removedCount} persons starting at {@code from}
+     * with {@code added}. Edits are applied in the order they were recorded, each to the list left by the one
+     * before it.
+     */
+    static class RangeEdit {
+        private final int from;
+        private final int removedCount;
+        private final List<Person> added;
+
+        RangeEdit(int from, int removedCount, List<Person> added) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+
+        void apply(List<Person> target) {
+            if (removedCount > 0) {
+                target.subList(from, from + removedCount).clear();
+            }
+            if (!added.isEmpty()) {
+                target.addAll(from, added);
+            }
+        }
+    }
+}
@@ -3,12 +3,16 @@ package seedu.address.ui;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -22,9 +26,9 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.ui.modulefolders.ModuleFolders;
@@ -44,11 +48,15 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
             "Viewing contacts list filtered by favourite.";
     private static final String FILTER_CLEAR_RESPONSE =
             "Displaying all contacts.";
+    private static final String SAVE_FAILURE_RESPONSE =
+            "Could not save data due to the following error, retrying shortly: %s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private LogicWorker logicWorker;
+    private Executor backgroundTaskExecutor;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -79,14 +87,17 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
     private StackPane switchWindowPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose changes all go through
+     * {@code logicWorker}, and which runs the background tasks of commands with {@code backgroundTaskExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, LogicWorker logicWorker, Executor backgroundTaskExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.logicWorker = logicWorker;
+        this.backgroundTaskExecutor = backgroundTaskExecutor;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -166,9 +177,10 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
         sidebar = new Sidebar(this);
         sidebarPlaceholder.getChildren().add(sidebar.getRoot());
 
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logicWorker.getFilteredPersonList());
 
-        moduleFolders = new ModuleFolders(logic.getUnfilteredPersonList(), this);
+        ModelChangeBus changeBus = new ModelChangeBus(logicWorker.getUnfilteredPersonList());
+        moduleFolders = new ModuleFolders(logicWorker.getUnfilteredPersonList(), changeBus, this);
 
         setSwitchWindowPlaceholder("Modules");
 
@@ -198,7 +210,7 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
         moduleCodeList.add(moduleCode);
         Map<PersonContainsKeywordsPredicate.SearchField, List<String>> searchFieldMap = new HashMap<>();
         searchFieldMap.put(PersonContainsKeywordsPredicate.SearchField.MODULE, moduleCodeList);
-        logic.updatePredicateViaGui(
+        logicWorker.updatePredicate(
                 new PersonContainsKeywordsPredicate(searchFieldMap)
         );
         String modulePressResponse = String.format("%s %s.", MODULE_PRESS_RESPONSE_PREFIX, moduleCode);
@@ -207,13 +219,13 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
 
     @Override
     public void filterListByFavourites() {
-        logic.updatePredicateViaGui(Person::getIsFavourite);
+        logicWorker.updatePredicate(Person::getIsFavourite);
         resultDisplay.setFeedbackToUser(FAVOURITE_FILE_PRESS_RESPONSE);
     }
 
     @Override
     public void clearFilter() {
-        logic.updatePredicateViaGui(PREDICATE_SHOW_ALL_PERSONS);
+        logicWorker.updatePredicate(PREDICATE_SHOW_ALL_PERSONS);
         resultDisplay.setFeedbackToUser(FILTER_CLEAR_RESPONSE);
     }
 
@@ -242,6 +254,14 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
         primaryStage.show();
     }
 
+    /**
+     * Merges {@code delta}, the changes another program made to the data file, into the address book, and shows
+     * the outcome in the result display. Can be called on any thread.
+     */
+    void mergeExternalChanges(AddressBookDelta delta) {
+        logicWorker.mergeExternalChanges(delta, feedback -> resultDisplay.setFeedbackToUser(feedback));
+    }
+
     /**
      * Closes the application.
      */
@@ -249,39 +269,63 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        logicWorker.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command, and shows the result once it has completed.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            if (!commandResult.isShowHelp()) {
-                this.setSwitchWindowPlaceholder("Contacts");
-            }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    private void executeCommand(String commandText, Consumer<Boolean> onCompletion) {
+        logicWorker.execute(commandText, commandResult -> {
+            handleCommandResult(commandResult);
+            onCompletion.accept(true);
+        }, e -> {
             logger.info("An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            onCompletion.accept(false);
+        });
+    }
+
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        commandResult.getBackgroundTask().ifPresent(this::runInBackground);
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
         }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (!commandResult.isShowHelp()) {
+            this.setSwitchWindowPlaceholder("Contacts");
+        }
+    }
+
+    /**
+     * Shows that the address book could not be saved because of {@code failure} in the result display.
+     * Can be called on any thread.
+     */
+    void showSaveFailure(IOException failure) {
+        String feedback = String.format(SAVE_FAILURE_RESPONSE, failure.getMessage());
+        Platform.runLater(() -> resultDisplay.setFeedbackToUser(feedback));
+    }
+
+    /**
+     * Runs {@code task} with the background task executor, showing its progress and outcome in the result display.
+     */
+    private void runInBackground(BackgroundTask task) {
+        backgroundTaskExecutor.execute(() -> {
+            String feedback = task.run(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+            logger.info("Background task result: " + feedback);
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(feedback));
+        });
     }
 
     /**
@@ -302,7 +346,7 @@ public class MainWindow extends UiPart<Stage> implements GuiFunctionHandler {
             setSwitchWindowPlaceholder("Contacts");
 
             // ensure consistent behaviour between tab press and button press contact
-            logic.updatePredicateViaGui(PREDICATE_SHOW_ALL_PERSONS);
+            logicWorker.updatePredicate(PREDICATE_SHOW_ALL_PERSONS);
             resultDisplay.setFeedbackToUser(FILTER_CLEAR_RESPONSE);
         }
     }
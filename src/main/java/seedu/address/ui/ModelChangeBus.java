@@ -0,0 +1,124 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Passes changes to the persons in the model on to UI components, at most once per pulse.
+ * <p>
+ * The changes are gathered as they happen, and merged into one {@link Delta}: a person that was removed and added
+ * again before the next pulse, e.g. by a replacement that is then undone, does not appear in it at all. Subscribers
+ * receive the merged delta on the JavaFX application thread, however many changes a command made.
+ */
+public class ModelChangeBus {
+
+    private final Executor pulseScheduler;
+    private final List<Consumer<Delta>> subscribers = new ArrayList<>();
+    // The net number of times each person was added (positive) or removed (negative) since the last dispatch.
+    // Persons are told apart by reference, as comparing them by value would load every lazily loaded person.
+    private Map<Person, Integer> pendingChanges = new IdentityHashMap<>();
+    // The persons in pendingChanges, in the order they first changed.
+    private List<Person> pendingPersons = new ArrayList<>();
+    private boolean isDispatchScheduled;
+
+    /**
+     * Creates a {@code ModelChangeBus} for the changes to {@code persons}.
+     */
+    public ModelChangeBus(ObservableList<Person> persons) {
+        this(persons, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code ModelChangeBus} for the changes to {@code persons}, which dispatches the changes with
+     * {@code pulseScheduler}.
+     */
+    ModelChangeBus(ObservableList<Person> persons, Executor pulseScheduler) {
+        requireNonNull(persons);
+        requireNonNull(pulseScheduler);
+        this.pulseScheduler = pulseScheduler;
+        persons.addListener((ListChangeListener<? super Person>) change -> {
+            while (change.next()) {
+                // Replacing a person is reported as both a removal and an addition.
+                change.getRemoved().forEach(person -> record(person, -1));
+                change.getAddedSubList().forEach(person -> record(person, 1));
+            }
+        });
+    }
+
+    /**
+     * Passes all later changes to {@code subscriber}.
+     */
+    public void subscribe(Consumer<Delta> subscriber) {
+        requireNonNull(subscriber);
+        subscribers.add(subscriber);
+    }
+
+    private void record(Person person, int count) {
+        Integer oldCount = pendingChanges.put(person, count);
+        if (oldCount == null) {
+            pendingPersons.add(person);
+        } else {
+            pendingChanges.put(person, oldCount + count);
+        }
+        if (!isDispatchScheduled) {
+            isDispatchScheduled = true;
+            pulseScheduler.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        isDispatchScheduled = false;
+        Map<Person, Integer> changes = pendingChanges;
+        List<Person> changedPersons = pendingPersons;
+        pendingChanges = new IdentityHashMap<>();
+        pendingPersons = new ArrayList<>();
+
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person person : changedPersons) {
+            int count = changes.get(person);
+            List<Person> persons = count < 0 ? removedPersons : addedPersons;
+            persons.addAll(Collections.nCopies(Math.abs(count), person));
+        }
+        if (removedPersons.isEmpty() && addedPersons.isEmpty()) {
+            return;
+        }
+
+        Delta delta = new Delta(removedPersons, addedPersons);
+        subscribers.forEach(subscriber -> subscriber.accept(delta));
+    }
+
+    /**
+     * The persons removed from and added to the model since the previous delta.
+     * Guarantees: immutable.
+     */
+    public static class Delta {
+        private final List<Person> removedPersons;
+        private final List<Person> addedPersons;
+
+        Delta(List<Person> removedPersons, List<Person> addedPersons) {
+            this.removedPersons = Collections.unmodifiableList(removedPersons);
+            this.addedPersons = Collections.unmodifiableList(addedPersons);
+        }
+
+        public List<Person> getRemovedPersons() {
+            return removedPersons;
+        }
+
+        public List<Person> getAddedPersons() {
+            return addedPersons;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+
 import javafx.stage.Stage;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * API of UI component
@@ -10,4 +13,16 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Merges {@code delta}, the changes another program made to the data file, into the address book, and tells
+     * the user. Can be called on any thread.
+     */
+    void mergeExternalChanges(AddressBookDelta delta);
+
+    /**
+     * Tells the user that the address book could not be saved because of {@code failure}, and that saving is
+     * retried in the background. Can be called on any thread.
+     */
+    void showSaveFailure(IOException failure);
+
 }
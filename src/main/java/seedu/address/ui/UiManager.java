@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +13,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * The manager of the UI component.
@@ -23,13 +26,18 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/AcademySource.jpeg";
 
     private Logic logic;
+    private LogicWorker logicWorker;
+    private Executor backgroundTaskExecutor;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose changes all go through {@code logicWorker},
+     * and which runs the background tasks of commands with {@code backgroundTaskExecutor}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, LogicWorker logicWorker, Executor backgroundTaskExecutor) {
         this.logic = logic;
+        this.logicWorker = logicWorker;
+        this.backgroundTaskExecutor = backgroundTaskExecutor;
     }
 
     @Override
@@ -44,7 +52,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, logicWorker, backgroundTaskExecutor);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -54,6 +62,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void mergeExternalChanges(AddressBookDelta delta) {
+        if (mainWindow != null) {
+            mainWindow.mergeExternalChanges(delta);
+        }
+    }
+
+    @Override
+    public void showSaveFailure(IOException failure) {
+        if (mainWindow != null) {
+            mainWindow.showSaveFailure(failure);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,90 @@
+package seedu.address.ui.modulefolders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.ModuleRegistry.Module;
+import seedu.address.model.person.Person;
+
+/**
+ * Counts the persons in each module and the favourite persons, so that the module folders can be kept up to date
+ * from the persons added to and removed from the list, without scanning the whole list.
+ * The modules whose folder should appear or disappear, because their count went from or to zero, are remembered
+ * until they are taken with {@link #takeChangedModuleCodes()}.
+ */
+class ModuleFolderCounts {
+
+    private final Map<String, Integer> moduleCounts = new HashMap<>();
+    private int favouriteCount;
+    private Set<String> changedModuleCodes = new HashSet<>();
+    private boolean isFavouritesChanged;
+
+    /**
+     * Counts {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (Module module : person.getModules()) {
+            int count = moduleCounts.merge(module.getModuleCode(), 1, Integer::sum);
+            if (count == 1) {
+                changedModuleCodes.add(module.getModuleCode());
+            }
+        }
+        if (person.getIsFavourite() && ++favouriteCount == 1) {
+            isFavouritesChanged = true;
+        }
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been counted before.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (Module module : person.getModules()) {
+            Integer count = moduleCounts.computeIfPresent(module.getModuleCode(),
+                    (moduleCode, oldCount) -> oldCount == 1 ? null : oldCount - 1);
+            if (count == null) {
+                changedModuleCodes.add(module.getModuleCode());
+            }
+        }
+        if (person.getIsFavourite() && --favouriteCount == 0) {
+            isFavouritesChanged = true;
+        }
+    }
+
+    /**
+     * Returns the number of persons in the module with {@code moduleCode}.
+     */
+    int getCount(String moduleCode) {
+        return moduleCounts.getOrDefault(moduleCode, 0);
+    }
+
+    /**
+     * Returns the number of favourite persons.
+     */
+    int getFavouriteCount() {
+        return favouriteCount;
+    }
+
+    /**
+     * Returns the codes of the modules whose count went from or to zero since this method was last called.
+     */
+    Set<String> takeChangedModuleCodes() {
+        Set<String> moduleCodes = changedModuleCodes;
+        changedModuleCodes = new HashSet<>();
+        return moduleCodes;
+    }
+
+    /**
+     * Returns true if the number of favourite persons went from or to zero since this method was last called.
+     */
+    boolean takeFavouritesChanged() {
+        boolean isChanged = isFavouritesChanged;
+        isFavouritesChanged = false;
+        return isChanged;
+    }
+}
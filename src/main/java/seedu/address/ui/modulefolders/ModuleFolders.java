@@ -1,11 +1,7 @@
 package seedu.address.ui.modulefolders;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.TreeMap;
 
-import javafx.application.Platform;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -20,6 +16,7 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 import seedu.address.ui.GuiFunctionHandler;
+import seedu.address.ui.ModelChangeBus;
 import seedu.address.ui.UiPart;
 import seedu.address.ui.personlist.PersonCard;
 
@@ -27,6 +24,10 @@ import seedu.address.ui.personlist.PersonCard;
  * Represents the UI component for displaying module folders.
  * Each folder corresponds to a CS Module that when the user clicks on it,
  * it will redirect users to Contacts page with the list filtered for the module code.
+ * <p>
+ * The folders are kept up to date from the changes to the person list, which only update the counts of persons in
+ * each module. Only the folders of modules that gained their first person or lost their last one are added or
+ * removed, once for all the changes made before the next pulse, as passed on by the {@link ModelChangeBus}.
  */
 public class ModuleFolders extends UiPart<Region> {
 
@@ -37,6 +38,11 @@ public class ModuleFolders extends UiPart<Region> {
             .getResourceAsStream("/images/favourite_star.png"));
 
     private final VBox emptyPlaceholder;
+    private final GuiFunctionHandler guiFunctionHandler;
+    private final ModuleFolderCounts counts = new ModuleFolderCounts();
+    // The module folders shown, by module code, in the order they are shown in.
+    private final TreeMap<String, VBox> moduleFolderNodes = new TreeMap<>();
+    private VBox favouriteFolderNode;
 
     @FXML
     private FlowPane folders;
@@ -46,61 +52,68 @@ public class ModuleFolders extends UiPart<Region> {
      * Generates folder buttons for each unique CS Module found inside the personList.
      *
      * @param personList         The list of persons containing module data.
+     * @param changeBus          The bus that passes on the changes to personList.
      * @param guiFunctionHandler mainWindow object that is created when GUI is loaded.
      */
-    public ModuleFolders(ObservableList<Person> personList, GuiFunctionHandler guiFunctionHandler) {
+    public ModuleFolders(ObservableList<Person> personList, ModelChangeBus changeBus,
+            GuiFunctionHandler guiFunctionHandler) {
         super(FXML);
         this.emptyPlaceholder = createEmptyPlaceholder();
+        this.guiFunctionHandler = guiFunctionHandler;
 
         // Initialise UI
-        updateFolders(personList, guiFunctionHandler);
-
-        // Listen for changes in personList and update UI.
-        // Behaviour similarly to useEffect in ReactJS.
-        personList.addListener((ListChangeListener<? super Person>) change -> {
-            while (change.next()) {
-                if (change.wasAdded() || change.wasRemoved()) {
-                    updateFolders(personList, guiFunctionHandler);
-                }
-            }
+        personList.forEach(counts::add);
+        updateFolders();
+
+        // Update the UI with the changes to personList, which arrive at most once per pulse.
+        changeBus.subscribe(delta -> {
+            delta.getRemovedPersons().forEach(counts::remove);
+            delta.getAddedPersons().forEach(counts::add);
+            updateFolders();
         });
     }
 
     /**
-     * Updates the folder UI dynamically when personList changes.
+     * Adds the folders of modules that gained persons, and removes those of modules that lost all of them.
      */
-    private void updateFolders(ObservableList<Person> personList, GuiFunctionHandler guiFunctionHandler) {
-        Platform.runLater(() -> {
-            folders.getChildren().clear();
-
-            Set<String> moduleStringSet = new HashSet<>();
-
-            // Add all unique modules into a set
-            personList.forEach(person -> person.getModules()
-                    .stream()
-                    .sorted(Comparator.comparing(module -> module.toString()))
-                    .forEach(module -> moduleStringSet.add(module.getModuleCode())));
-
-            // Add modules folders into FlowPane
-            moduleStringSet.forEach(moduleString -> createFolder(moduleString, guiFunctionHandler));
+    private void updateFolders() {
+        folders.getChildren().remove(emptyPlaceholder);
+
+        for (String moduleCode : counts.takeChangedModuleCodes()) {
+            boolean hasFolder = moduleFolderNodes.containsKey(moduleCode);
+            boolean needsFolder = counts.getCount(moduleCode) > 0;
+            if (needsFolder && !hasFolder) {
+                VBox folder = createFolder(moduleCode);
+                moduleFolderNodes.put(moduleCode, folder);
+                // Module folders come first, in the order of their codes
+                folders.getChildren().add(moduleFolderNodes.headMap(moduleCode).size(), folder);
+            } else if (!needsFolder && hasFolder) {
+                folders.getChildren().remove(moduleFolderNodes.remove(moduleCode));
+            }
+        }
 
-            // Create a favourite folder if there exists a favourite contact
-            boolean hasFavContact = personList.stream().anyMatch(Person::getIsFavourite);
-            if (hasFavContact) {
-                createFavouriteFolder(guiFunctionHandler);
+        // Create a favourite folder if there exists a favourite contact
+        if (counts.takeFavouritesChanged()) {
+            boolean needsFolder = counts.getFavouriteCount() > 0;
+            if (needsFolder && favouriteFolderNode == null) {
+                favouriteFolderNode = createFavouriteFolder();
+                folders.getChildren().add(favouriteFolderNode);
+            } else if (!needsFolder && favouriteFolderNode != null) {
+                folders.getChildren().remove(favouriteFolderNode);
+                favouriteFolderNode = null;
             }
+        }
 
-            displayFolders();
-        });
+        displayFolders();
     }
 
     /**
      * Creates a folder element with with its respective module inside the Modules Tab.
      *
      * @param moduleString       module code stored as a string.
-     * @param guiFunctionHandler the Ui object that implements GuiFunctionHandler
+     * @return the folder element.
      */
-    private void createFolder(String moduleString, GuiFunctionHandler guiFunctionHandler) {
+    private VBox createFolder(String moduleString) {
         // Set folder image
         ImageView folderImageView = new ImageView(FOLDER_IMAGE);
         folderImageView.setFitHeight(100.0);
@@ -119,17 +132,16 @@ public class ModuleFolders extends UiPart<Region> {
         Label label = new Label(moduleString);
         label.setTranslateX(40.0);
 
-        // Group all JavaFX element into one VBox and add it into FlowPane
-        VBox container = new VBox(folderButton, label);
-        folders.getChildren().add(container);
+        // Group all JavaFX element into one VBox
+        return new VBox(folderButton, label);
     }
 
     /**
      * Creates a favourite folder inside Module's tab.
      *
-     * @param guiFunctionHandler mainWindow object that is created when GUI is loaded.
+     * @return the folder element.
      */
-    private void createFavouriteFolder(GuiFunctionHandler guiFunctionHandler) {
+    private VBox createFavouriteFolder() {
 
         // Set folder image and favourite star
         ImageView folderImageView = new ImageView(FOLDER_IMAGE);
@@ -157,9 +169,8 @@ public class ModuleFolders extends UiPart<Region> {
         Label label = new Label("Favourites");
         label.setTranslateX(35.0);
 
-        // Group all JavaFX element into one VBox and add it into FlowPane
-        VBox container = new VBox(folderButton, label);
-        folders.getChildren().add(container);
+        // Group all JavaFX element into one VBox
+        return new VBox(folderButton, label);
     }
 
     /**
@@ -1,11 +1,7 @@
 package seedu.address.ui.personlist;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.stream.Collectors;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -13,12 +9,15 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.model.person.ModuleRegistry.Module;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Role;
 import seedu.address.ui.UiPart;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be reused for another person with {@link #setPerson(Person, int)}, which only updates the contents of
+ * the controls that were loaded from the FXML file once.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -36,7 +35,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -61,13 +60,30 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label telegram;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        favourite.setImage(FAVOURITE_STAR);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        BooleanProperty isFavourite = new SimpleBooleanProperty(person.getIsFavourite());
-        Set<String> strModules = new HashSet<>();
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the given {@code Person} and index in this card.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -82,20 +98,16 @@ public class PersonCard extends UiPart<Region> {
         roleLabel.setText(role.toString());
 
         // sets role colour based on the role. TA = yellow. Prof = orange
-        Image taTag = new Image(getClass().getResourceAsStream("/images/tag_ta.png"));
-        Image profTag = new Image(getClass().getResourceAsStream("/images/tag_prof.png"));
-
         Image image = switch (role) {
         case TA -> TA_TAG;
         case PROFESSOR -> PROF_TAG;
         };
         roleType.setImage(image);
 
-        favourite.setImage(FAVOURITE_STAR);
-        favourite.visibleProperty().bind(isFavourite);
-        person.getModules().stream()
-                .sorted(Comparator.comparing(module -> module.toString()))
-                .forEach(module -> strModules.add(module.getModuleCode()));
-        modules.setText(String.join(", ", strModules));
+        favourite.setVisible(person.getIsFavourite());
+        modules.setText(person.getModules().stream()
+                .map(Module::getModuleCode)
+                .sorted()
+                .collect(Collectors.joining(", ")));
     }
 }
@@ -63,22 +63,33 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once, and shows the person it is given by updating the card, as the list view
+     * reuses its cells for different persons while scrolling.
      * Selection handling disabled until ListView flickering bug is resolved in the later JDK.
      */
     class PersonListViewCell extends ListCell<Person> {
-        @Override
-        protected void updateItem(Person person, boolean empty) {
-            super.updateItem(person, empty);
+        private PersonCard personCard;
 
+        PersonListViewCell() {
             // Disable selection on
             setOnMouseClicked(MouseEvent::consume);
+        }
+
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
 
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                return;
+            }
+
+            if (personCard == null) {
+                personCard = new PersonCard();
             }
+            personCard.setPerson(person, getIndex() + 1);
+            setGraphic(personCard.getRoot());
         }
 
         @Override
@@ -39,10 +39,65 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_apiPortIgnored() {
+        parametersStub.namedParameters.put("api-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        assertEquals(expected, AppParameters.parse(List.of("--api-port=port")));
+    }
+
+    @Test
+    public void parse_rawApiPort_notHeadless() {
+        expected.setApiPort(0);
+        assertEquals(expected, AppParameters.parse(List.of("--api-port=0")));
+    }
+
+    @Test
+    public void parse_rawArgumentsWithoutHeadless_notHeadless() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(List.of("--config=config.json", "--unknown")));
+    }
+
+    @Test
+    public void parse_headless_success() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(List.of("--headless")));
+    }
+
+    @Test
+    public void parse_execAndScript_headless() {
+        expected.setHeadless(true);
+        expected.addCommand("list");
+        expected.addCommand("delete 1");
+        expected.setScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(
+                List.of("--exec", "list", "--script", "commands.txt", "--exec", "delete 1")));
+    }
+
+    @Test
+    public void parse_execWithoutCommand_ignored() {
+        assertEquals(expected, AppParameters.parse(List.of("--exec")));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_scriptIgnored() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(List.of("--script", "a\0")));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=false, commands=[], scriptPath=null, apiPort=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -0,0 +1,107 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        headlessApp = new HeadlessApp(new LogicManager(model, storage), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_execCommands_runInOrder() {
+        int personCount = model.getAddressBook().getPersonList().size();
+        AppParameters appParameters = AppParameters.parse(List.of("--exec", "delete 1", "--exec", "delete 1"));
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, headlessApp.run(appParameters, NO_INPUT));
+        assertEquals(personCount - 2, model.getAddressBook().getPersonList().size());
+        assertEquals(2, getLines(out).size());
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_noCommandsGiven_readsInput() {
+        InputStream in = new ByteArrayInputStream(("# comment\n\n" + ListCommand.COMMAND_WORD + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, headlessApp.run(AppParameters.parse(List.of("--headless")), in));
+        assertEquals(List.of(ListCommand.MESSAGE_SUCCESS), getLines(out));
+    }
+
+    @Test
+    public void run_script_stopsAtExit() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("commands.txt");
+        Files.write(scriptPath, List.of(ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, "delete 1"));
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        AppParameters appParameters = AppParameters.parse(List.of("--script", scriptPath.toString()));
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, headlessApp.run(appParameters, NO_INPUT));
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+        assertEquals(2, getLines(out).size());
+    }
+
+    @Test
+    public void run_failedCommand_errorReportedAndOthersRun() {
+        AppParameters appParameters = AppParameters.parse(List.of("--exec", "unknown", "--exec", "list"));
+
+        assertEquals(HeadlessApp.EXIT_STATUS_COMMAND_FAILED, headlessApp.run(appParameters, NO_INPUT));
+        assertEquals(List.of(Messages.MESSAGE_UNKNOWN_COMMAND), getLines(err));
+        assertEquals(List.of(ListCommand.MESSAGE_SUCCESS), getLines(out));
+    }
+
+    @Test
+    public void run_missingScript_scriptUnreadable() {
+        AppParameters appParameters = AppParameters.parse(
+                List.of("--script", temporaryFolder.resolve("missing.txt").toString()));
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SCRIPT_UNREADABLE, headlessApp.run(appParameters, NO_INPUT));
+        assertFalse(getLines(err).isEmpty());
+        assertTrue(getLines(out).isEmpty());
+    }
+
+    private static List<String> getLines(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
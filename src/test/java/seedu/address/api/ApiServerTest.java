@@ -0,0 +1,240 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    private static final int READER_COUNT = 4;
+    private static final int BASE_PERSON_COUNT = 500;
+    private static final int ADDED_PERSON_COUNT = 50;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService logicWorker = Executors.newSingleThreadExecutor();
+    private final ExecutorService backgroundTaskExecutor = Executors.newSingleThreadExecutor();
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(model, storage);
+
+        // As in the app, every command is run on a single thread, while queries are served from snapshots.
+        apiServer = new ApiServer(0, READER_COUNT, logic::getAddressBookSnapshot, commandText -> {
+            CompletableFuture<CommandResult> result = new CompletableFuture<>();
+            logicWorker.execute(() -> {
+                try {
+                    result.complete(logic.execute(commandText));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        }, backgroundTaskExecutor);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        logicWorker.shutdownNow();
+        backgroundTaskExecutor.shutdownNow();
+    }
+
+    @Test
+    public void findPersons_noParameters_allPersons() throws Exception {
+        HttpResponse<String> response = get("/api/persons");
+        assertEquals(200, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(),
+                ((List<?>) parse(response).get("persons")).size());
+    }
+
+    @Test
+    public void findPersons_nameAndModule_matchingPersons() throws Exception {
+        HttpResponse<String> response = get("/api/persons/count?name=" + encode("alice benson") + "&module=CS2103T");
+        assertEquals(200, response.statusCode());
+        long expectedCount = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.equals(ALICE) || person.getName().fullName.startsWith("Benson"))
+                .filter(person -> person.getModules().stream()
+                        .anyMatch(module -> module.getModuleCode().equalsIgnoreCase("CS2103T")))
+                .count();
+        assertEquals(expectedCount, ((Number) parse(response).get("count")).longValue());
+    }
+
+    @Test
+    public void findPersons_unknownField_badRequest() throws Exception {
+        HttpResponse<String> response = get("/api/persons?address=street");
+        assertEquals(400, response.statusCode());
+        assertTrue(((String) parse(response).get("error")).contains("address"));
+    }
+
+    @Test
+    public void getPerson_existingName_person() throws Exception {
+        HttpResponse<String> response = get("/api/persons/" + encode(ALICE.getName().fullName));
+        assertEquals(200, response.statusCode());
+        assertEquals(ALICE.getName().fullName, ((Map<?, ?>) parse(response).get("person")).get("name"));
+    }
+
+    @Test
+    public void getPerson_missingOrInvalidName_error() throws Exception {
+        assertEquals(404, get("/api/persons/" + encode("No Such Person")).statusCode());
+        assertEquals(400, get("/api/persons/" + encode("@invalid")).statusCode());
+    }
+
+    @Test
+    public void runCommand_validCommand_modelChanged() throws Exception {
+        HttpResponse<String> response = post(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(200, response.statusCode());
+        assertTrue(parse(response).containsKey("feedback"));
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void runCommand_export_fileWrittenBeforeResponse() throws Exception {
+        Path exportFilePath = temporaryFolder.resolve("contacts.csv");
+        HttpResponse<String> response = post(ExportCommand.COMMAND_WORD + " " + ExportCommand.ALL_KEYWORD + " "
+                + exportFilePath);
+        assertEquals(200, response.statusCode());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, getTypicalAddressBook().getPersonList().size(),
+                exportFilePath), parse(response).get("feedback"));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, Files.readAllLines(exportFilePath).size());
+    }
+
+    @Test
+    public void runCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(400, post("unknown").statusCode());
+        assertEquals(400, post(DeleteCommand.COMMAND_WORD + " 1000").statusCode());
+        assertEquals(405, get("/api/commands").statusCode());
+    }
+
+    @Test
+    public void findPersons_concurrentCommands_consistentCounts() throws Exception {
+        AddressBook baseAddressBook = new AddressBook();
+        for (int i = 0; i < BASE_PERSON_COUNT; i++) {
+            baseAddressBook.addPerson(new PersonBuilder().withName("Base " + i).withoutTelegram().build());
+        }
+        CompletableFuture.runAsync(() -> model.setAddressBook(baseAddressBook), logicWorker).get();
+
+        // While persons are added one by one, every count must be that of some state between the commands, and the
+        // counts seen by one client must never go back.
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicLong readCount = new AtomicLong();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            Thread reader = new Thread(() -> {
+                long previousCount = 0;
+                while (isWriting.get()) {
+                    try {
+                        HttpResponse<String> response = get("/api/persons/count");
+                        long count = ((Number) parse(response).get("count")).longValue();
+                        if (response.statusCode() != 200 || count < previousCount || count < BASE_PERSON_COUNT
+                                || count > BASE_PERSON_COUNT + ADDED_PERSON_COUNT) {
+                            failures.add("Status " + response.statusCode() + " with count " + count);
+                        }
+                        previousCount = count;
+                        readCount.incrementAndGet();
+                    } catch (IOException | InterruptedException e) {
+                        failures.add(e.toString());
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int i = 0; i < ADDED_PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Added " + i).withTelegram("@added" + i).build();
+            assertEquals(200, post(PersonUtil.getAddCommand(person)).statusCode());
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.size() + " failed queries, e.g. " + failures.peek());
+        assertTrue(readCount.get() > 0);
+        assertEquals(BASE_PERSON_COUNT + ADDED_PERSON_COUNT,
+                ((Number) parse(get("/api/persons/count")).get("count")).longValue());
+
+        assertEquals(200, post(ClearCommand.COMMAND_WORD).statusCode());
+        assertEquals(0L, ((Number) parse(get("/api/persons/count")).get("count")).longValue());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String commandText) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(commandText))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        return URI.create("http://" + host + ":" + apiServer.getPort() + path);
+    }
+
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static Map<?, ?> parse(HttpResponse<String> response) throws IOException {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+}
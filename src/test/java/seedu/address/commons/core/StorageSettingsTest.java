@@ -0,0 +1,32 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StorageSettings.DataFormat;
+
+public class StorageSettingsTest {
+    @Test
+    public void withoutConvertFrom_conversionAsked_conversionCleared() {
+        StorageSettings storageSettings = new StorageSettings(DataFormat.BINARY, true, false, true, 0, 16,
+                DataFormat.JSON);
+        StorageSettings clearedSettings = storageSettings.withoutConvertFrom();
+        assertFalse(clearedSettings.getConvertFrom().isPresent());
+        assertEquals(new StorageSettings(DataFormat.BINARY, true, false, true, 0, 16, null), clearedSettings);
+    }
+
+    @Test
+    public void toStringMethod() {
+        StorageSettings storageSettings = new StorageSettings();
+        String expected = StorageSettings.class.getCanonicalName() + "{dataFormat=" + storageSettings.getDataFormat()
+                + ", isJournalEnabled=" + storageSettings.isJournalEnabled()
+                + ", isCompactJson=" + storageSettings.isCompactJson()
+                + ", isLazyLoadingEnabled=" + storageSettings.isLazyLoadingEnabled()
+                + ", compressionLevel=" + storageSettings.getCompressionLevel()
+                + ", shardCount=" + storageSettings.getShardCount()
+                + ", convertFrom=null}";
+        assertEquals(expected, storageSettings.toString());
+    }
+}
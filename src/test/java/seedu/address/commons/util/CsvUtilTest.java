@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_plainFields_splitAtCommas() throws Exception {
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.parseLine("a, b ,,c"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", ""), CsvUtil.parseLine("a,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquoted() throws Exception {
+        assertEquals(List.of("a,b", "say \"hi\"", ""), CsvUtil.parseLine("\"a,b\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void parseLine_malformedQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("\"a,b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toLine_specialCharacters_quoted() {
+        assertEquals("a,\"b,c\",\"say \"\"hi\"\"\",\" d\",",
+                CsvUtil.toLine(List.of("a", "b,c", "say \"hi\"", " d", "")));
+    }
+
+    @Test
+    public void toLine_emptyFirstField_separatorKept() throws Exception {
+        assertEquals(",a,", CsvUtil.toLine(List.of("", "a", "")));
+        assertEquals(List.of("", "a", ""), CsvUtil.parseLine(CsvUtil.toLine(List.of("", "a", ""))));
+    }
+
+    @Test
+    public void toLine_parseLine_roundTrip() throws Exception {
+        List<String> fields = List.of("Alex Yeoh", "a,b", "\"", " padded ", "");
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.toLine(fields)));
+    }
+}
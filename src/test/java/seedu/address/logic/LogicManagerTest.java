@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -13,8 +14,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +26,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -84,6 +91,55 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        throw new AssertionError("Read-only commands should not save the address book.");
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandFailsAfterChanges_changesSaved() throws Exception {
+        // the rows before the malformed bytes are imported before the file fails to be read
+        StringBuilder csv = new StringBuilder(String.join(",", CsvPersonParser.COLUMNS)).append("\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append("Person ").append((char) ('a' + i / 26)).append((char) ('a' + i % 26))
+                    .append(",85355255,person@example.com,ta,CS2103T,,n\n");
+        }
+        Path csvFile = temporaryFolder.resolve("roster.csv");
+        Files.write(csvFile, csv.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(csvFile, new byte[] {(byte) 0xff, (byte) 0xfe, '\n'}, StandardOpenOption.APPEND);
+
+        assertThrows(CommandException.class, () -> logic.execute(ImportCommand.COMMAND_WORD + " " + csvFile));
+        assertFalse(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(model.getAddressBook(), new AddressBook(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveUnsavedChanges_modelChanged_saved() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        model.addPerson(new PersonBuilder(AMY).build());
+        logic.saveUnsavedChanges();
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveUnsavedChanges_modelUnchanged_doesNotSave() throws Exception {
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        logic.saveUnsavedChanges();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
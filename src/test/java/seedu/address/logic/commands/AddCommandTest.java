@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +22,14 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
+import seedu.address.model.PersonChangeBatch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,6 +140,76 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Flow.Publisher<PersonChangeBatch> getPersonChangePublisher() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveView(String name, PersonContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookGeneration() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> mergeAddressBookDelta(AddressBookDelta delta) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasName(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -33,6 +33,15 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // background task is not compared -> returns true
+        assertTrue(commandResult.equals(new CommandResult("feedback", progressListener -> "done")));
+    }
+
+    @Test
+    public void getBackgroundTask() {
+        assertFalse(new CommandResult("feedback").getBackgroundTask().isPresent());
+        assertTrue(new CommandResult("feedback", progressListener -> "done").getBackgroundTask().isPresent());
     }
 
     @Test
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_unknownFormat_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExportCommand(Paths.get("contacts.txt"), false));
+    }
+
+    @Test
+    public void execute_csv_canBeImportedAgain() throws Exception {
+        Path csvFile = testFolder.resolve("contacts.csv");
+        Person favourite = new PersonBuilder().withName("Zed Zee").withModule("CS2103T", "CS2100")
+                .withoutTelegram().withFavourite(true).build();
+        model.addPerson(favourite);
+
+        String feedback = runExport(new ExportCommand(csvFile, true), new ArrayList<>());
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, model.getAddressBook().getPersonList().size(),
+                csvFile), feedback);
+        Model importedModel = new ModelManager();
+        new ImportCommand(csvFile).execute(importedModel);
+        assertEquals(model.getAddressBook(), importedModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedPersonsWritten() throws Exception {
+        Path vcardFile = testFolder.resolve("contacts.vcf");
+        model.updateFilteredPersonList(ALICE::equals);
+
+        String feedback = runExport(new ExportCommand(vcardFile, false), new ArrayList<>());
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, vcardFile), feedback);
+        List<String> lines = Files.readAllLines(vcardFile, StandardCharsets.UTF_8);
+        assertEquals(List.of("BEGIN:VCARD", "VERSION:3.0", "FN:Alice Pauline", "N:;Alice Pauline;;;",
+                "TEL:94351253", "EMAIL:amy@gmail.com", "TITLE:Professor", "CATEGORIES:CS2103T",
+                "X-TELEGRAM:@AliceTele", "END:VCARD"), lines);
+    }
+
+    @Test
+    public void execute_manyPersons_progressReported() throws Exception {
+        Path csvFile = testFolder.resolve("contacts.csv");
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ExportCommand.PROGRESS_INTERVAL * 2 + 1; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withoutTelegram().build());
+        }
+        model = new ModelManager();
+        model.addPersons(persons);
+
+        List<String> progress = new ArrayList<>();
+        runExport(new ExportCommand(csvFile, false), progress);
+
+        assertEquals(List.of(
+                String.format(ExportCommand.MESSAGE_PROGRESS, csvFile, ExportCommand.PROGRESS_INTERVAL,
+                        persons.size()),
+                String.format(ExportCommand.MESSAGE_PROGRESS, csvFile, ExportCommand.PROGRESS_INTERVAL * 2,
+                        persons.size())), progress);
+        assertEquals(persons.size() + 1, Files.readAllLines(csvFile, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_unwritableFile_failureReported() throws IOException {
+        Path folderInTheWay = Files.createDirectory(testFolder.resolve("contacts.csv"));
+        Files.writeString(folderInTheWay.resolve("file"), "keep");
+
+        String feedback = runExport(new ExportCommand(folderInTheWay, true), new ArrayList<>());
+
+        assertTrue(feedback.startsWith(String.format(ExportCommand.MESSAGE_FAILED, folderInTheWay, "")));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count()); // the temporary file is cleaned up
+        }
+    }
+
+    @Test
+    public void execute_cancelled_noFileLeftBehind() throws IOException {
+        Path csvFile = testFolder.resolve("contacts.csv");
+        String feedback;
+        Thread.currentThread().interrupt();
+        try {
+            feedback = runExport(new ExportCommand(csvFile, true), new ArrayList<>());
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals(String.format(ExportCommand.MESSAGE_CANCELLED, csvFile), feedback);
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("contacts.csv"), false);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("contacts.csv"), false)));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("contacts.csv"), true)));
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("contacts.vcf"), false)));
+    }
+
+    private String runExport(ExportCommand command, List<String> progress) {
+        CommandResult result = command.execute(model);
+        return result.getBackgroundTask().get().run(progress::add);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").withPhone("85355255")
+            .withEmail("amy@gmail.com").withRole(Role.TA).withModule("CS2103T").withTelegram("@AmyTele").build();
+    private static final Person ZED = new PersonBuilder().withName("Zed Zee").withPhone("91234567")
+            .withEmail("zed@example.com").withRole(Role.PROFESSOR).withModule("CS2103T", "CS2100")
+            .withoutTelegram().withFavourite(true).build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validRows_allImported() throws IOException {
+        Path csvFile = writeCsv("roster.csv",
+                "name,phone,email,role,modules,telegram,favourite",
+                "Amy Bee,85355255,amy@gmail.com,ta,CS2103T,@AmyTele,n",
+                "",
+                "Zed Zee,91234567,zed@example.com,prof,\"CS2103T;CS2100\",,y");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(ZED);
+        assertCommandSuccess(new ImportCommand(csvFile), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, csvFile), expectedModel);
+        assertFalse(Files.exists(ImportCommand.getRejectFilePath(csvFile)));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Path csvFile = writeCsv("roster.csv",
+                "Name,Phone,Email,Role,Modules,Telegram",
+                "Amy Bee,85355255,amy@gmail.com,ta,CS2103T,@AmyTele",
+                "Alice Pauline,94351253,alice@example.com,prof,CS2103T,",
+                "Bob Choo,22222222,bob@example.com,ta,CS2103T,@AliceTele",
+                "Carol,911a,carol@example.com,ta,CS2103T,",
+                "Amy Bee,11111111,amy2@example.com,ta,CS2103T,",
+                "Dan,\"unterminated");
+        Path rejectFile = ImportCommand.getRejectFilePath(csvFile);
+
+        // a batch size of 1 adds each person separately, so duplicates of earlier rows are found in the model
+        CommandResult result = new ImportCommand(csvFile, 1).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, csvFile)
+                + String.format(ImportCommand.MESSAGE_REJECTS, 5, rejectFile), result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().contains(AMY));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+
+        List<String> rejects = Files.readAllLines(rejectFile, StandardCharsets.UTF_8);
+        assertEquals(6, rejects.size());
+        assertEquals("line,error,row", rejects.get(0));
+        assertTrue(rejects.get(1).startsWith("3," + AddCommand.MESSAGE_DUPLICATE_NAME));
+        assertTrue(rejects.get(2).startsWith("4," + AddCommand.MESSAGE_DUPLICATE_TELEGRAM));
+        assertTrue(rejects.get(3).startsWith("5,"));
+        assertTrue(rejects.get(4).startsWith("6," + AddCommand.MESSAGE_DUPLICATE_NAME));
+        assertTrue(rejects.get(5).startsWith("7,"));
+    }
+
+    @Test
+    public void execute_duplicateRowsInSameBatch_secondRejected() throws Exception {
+        Path csvFile = writeCsv("roster.csv",
+                String.join(",", CsvPersonParser.COLUMNS),
+                "Amy Bee,85355255,amy@gmail.com,ta,CS2103T,@AmyTele,",
+                "Zed Zee,91234567,zed@example.com,prof,CS2103T,@AmyTele,");
+
+        new ImportCommand(csvFile).execute(model);
+
+        assertTrue(model.getAddressBook().getPersonList().contains(AMY));
+        assertFalse(model.hasName(ZED));
+        assertTrue(Files.exists(ImportCommand.getRejectFilePath(csvFile)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path csvFile = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(csvFile), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, csvFile));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws IOException {
+        Path csvFile = writeCsv("empty.csv");
+        assertCommandFailure(new ImportCommand(csvFile), model,
+                String.format(ImportCommand.MESSAGE_EMPTY_FILE, csvFile));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws IOException {
+        Path csvFile = writeCsv("roster.csv", "name,phone,email,role", "Amy Bee,85355255,amy@gmail.com,ta");
+        assertCommandFailure(new ImportCommand(csvFile), model, String.format(ImportCommand.MESSAGE_INVALID_HEADER,
+                csvFile, String.format(CsvPersonParser.MESSAGE_MISSING_COLUMNS, "modules")));
+    }
+
+    @Test
+    public void getRejectFilePath() {
+        assertEquals(Paths.get("data", "roster.rejects.csv"),
+                ImportCommand.getRejectFilePath(Paths.get("data", "roster.csv")));
+        assertEquals(Paths.get("roster.rejects.csv"), ImportCommand.getRejectFilePath(Paths.get("roster")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("roster.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("roster.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+        assertFalse(importCommand.equals(new Name("Amy Bee")));
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws IOException {
+        Path csvFile = testFolder.resolve(fileName);
+        Files.write(csvFile, List.of(lines), StandardCharsets.UTF_8);
+        return csvFile;
+    }
+}
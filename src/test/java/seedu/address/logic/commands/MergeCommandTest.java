@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.MergePolicy;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MergeCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newPersonsAndPolicy_mergedInOneChange() throws Exception {
+        Person olderAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person newerAlice = new PersonBuilder(ALICE).withPhone("22222222").build();
+        // the newer file is listed first, but merged last
+        Path newerFile = writeDataFile("team2.json", 2000, newerAlice, BOB);
+        Path olderFile = writeDataFile("team1.json", 1000, olderAlice, AMY);
+        long generation = model.getAddressBookGeneration();
+
+        CommandResult result = new MergeCommand(List.of(newerFile, olderFile), Set.of(MergePolicy.KEEP_NEWEST))
+                .execute(model);
+
+        assertEquals(String.format(MergeCommand.MESSAGE_SUCCESS, 2, 2, 1), result.getFeedbackToUser());
+        assertEquals(generation + 1, model.getAddressBookGeneration());
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.setPerson(ALICE, newerAlice);
+        expectedAddressBook.addPerson(AMY);
+        expectedAddressBook.addPerson(BOB);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_noChanges_addressBookUntouched() throws Exception {
+        Path dataFile = writeDataFile("team1.json", 1000, ALICE);
+        long generation = model.getAddressBookGeneration();
+
+        CommandResult result = new MergeCommand(List.of(dataFile), Set.of()).execute(model);
+
+        assertEquals(String.format(MergeCommand.MESSAGE_SUCCESS, 1, 0, 0), result.getFeedbackToUser());
+        assertEquals(generation, model.getAddressBookGeneration());
+    }
+
+    @Test
+    public void execute_clashingTelegram_skippedAndReported() throws Exception {
+        Person bobWithAliceTelegram = new PersonBuilder(BOB).withTelegram("@AliceTele").build();
+        Path dataFile = writeDataFile("team1.json", 1000, bobWithAliceTelegram);
+
+        CommandResult result = new MergeCommand(List.of(dataFile), Set.of()).execute(model);
+
+        assertEquals(String.format(MergeCommand.MESSAGE_SUCCESS, 1, 0, 0)
+                + String.format(MergeCommand.MESSAGE_SKIPPED, 1, BOB.getName().fullName), result.getFeedbackToUser());
+        assertFalse(model.hasName(BOB));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        Path dataFile = writeDataFile("team1.json", 1000, AMY);
+        Path missingFile = testFolder.resolve("missing.json");
+        assertCommandFailure(new MergeCommand(List.of(dataFile, missingFile), Set.of()), model,
+                String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path dataFile = writeDataFile("team1.json", 1000, AMY);
+        Path invalidFile = testFolder.resolve("invalid.json");
+        Files.writeString(invalidFile, "not json");
+
+        assertThrows(CommandException.class, () ->
+                new MergeCommand(List.of(dataFile, invalidFile), Set.of()).execute(model));
+        assertFalse(model.hasName(AMY));
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(List.of(Paths.get("a.json")), Set.of(MergePolicy.KEEP_NEWEST));
+
+        assertTrue(mergeCommand.equals(mergeCommand));
+        assertTrue(mergeCommand.equals(new MergeCommand(List.of(Paths.get("a.json")),
+                Set.of(MergePolicy.KEEP_NEWEST))));
+        assertFalse(mergeCommand.equals(null));
+        assertFalse(mergeCommand.equals(new MergeCommand(List.of(Paths.get("a.json")), Set.of())));
+        assertFalse(mergeCommand.equals(new MergeCommand(List.of(Paths.get("b.json")),
+                Set.of(MergePolicy.KEEP_NEWEST))));
+    }
+
+    private Path writeDataFile(String fileName, long lastModifiedMillis, Person... persons) throws IOException {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (Person person : persons) {
+            builder.withPerson(person);
+        }
+        Path filePath = testFolder.resolve(fileName);
+        new JsonAddressBookStorage(filePath).saveAddressBook(builder.build());
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(lastModifiedMillis));
+        return filePath;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesUndone_redoneOneStepAtATime() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.undoAddressBook();
+
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePerson(BENSON);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.DARREN;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewCommand}.
+ */
+public class ViewCommandTest {
+
+    private static final String VIEW_NAME = "Algorithms";
+    private static final PersonContainsKeywordsPredicate MODULE_PREDICATE =
+            new PersonContainsKeywordsPredicate(Map.of(SearchField.MODULE, List.of("CS3230")));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_save_viewSavedAndShown() {
+        String expectedMessage = String.format(ViewCommand.MESSAGE_SAVE_SUCCESS, VIEW_NAME, 2);
+        expectedModel.saveView(VIEW_NAME, MODULE_PREDICATE);
+        expectedModel.showView(VIEW_NAME);
+        assertCommandSuccess(new ViewCommand(VIEW_NAME, MODULE_PREDICATE), model, expectedMessage, expectedModel);
+        assertEquals(List.of(DARREN, FIONA), model.getFilteredPersonList());
+        assertEquals(Map.of(VIEW_NAME, MODULE_PREDICATE.getFieldKeywordMap()), model.getUserPrefs().getSavedViews());
+    }
+
+    @Test
+    public void execute_savedViewAfterChanges_showsCurrentMembers() throws Exception {
+        new ViewCommand(VIEW_NAME, MODULE_PREDICATE).execute(model);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        Person newPerson = new PersonBuilder().withModule("CS3230").build();
+        Person editedDarren = new PersonBuilder(DARREN).withModule("CS2103T").build();
+        model.addPerson(newPerson);
+        model.setPerson(DARREN, editedDarren);
+        model.deletePerson(FIONA);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertEquals(expectedMessage, new ViewCommand(VIEW_NAME).execute(model).getFeedbackToUser());
+        assertEquals(List.of(newPerson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_viewShown_followsChanges() throws Exception {
+        new ViewCommand(VIEW_NAME, MODULE_PREDICATE).execute(model);
+        Person editedDarren = new PersonBuilder(DARREN).withPhone("99999999").build();
+        model.setPerson(DARREN, editedDarren);
+        assertEquals(List.of(editedDarren, FIONA), model.getFilteredPersonList());
+        model.deletePerson(FIONA);
+        assertEquals(List.of(editedDarren), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() throws Exception {
+        new ViewCommand(VIEW_NAME, MODULE_PREDICATE).execute(model);
+        assertCommandFailure(new ViewCommand("Unknown"), model,
+                String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "Unknown", VIEW_NAME));
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand showCommand = new ViewCommand(VIEW_NAME);
+        ViewCommand saveCommand = new ViewCommand(VIEW_NAME, MODULE_PREDICATE);
+
+        // same object -> returns true
+        assertTrue(showCommand.equals(showCommand));
+
+        // same values -> returns true
+        assertTrue(showCommand.equals(new ViewCommand(VIEW_NAME)));
+        assertTrue(saveCommand.equals(new ViewCommand(VIEW_NAME, MODULE_PREDICATE)));
+
+        // different types -> returns false
+        assertFalse(showCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(showCommand.equals(null));
+
+        // different name or predicate -> returns false
+        assertFalse(showCommand.equals(new ViewCommand("Other")));
+        assertFalse(showCommand.equals(saveCommand));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonParserTest {
+
+    @Test
+    public void constructor_missingColumns_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_MISSING_COLUMNS, "email, modules"), ()
+                -> new CsvPersonParser(List.of("name", "phone", "role")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_DUPLICATE_COLUMN, "name"), ()
+                -> new CsvPersonParser(List.of("name", "phone", "email", "role", "modules", "Name")));
+    }
+
+    @Test
+    public void parse_allColumnsInAnyOrder_success() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(
+                List.of(" Modules", "NAME", "phone", "email", "role", "telegram", "favourite"));
+        Person expectedPerson = new PersonBuilder().withName("Amy Bee").withPhone("85355255")
+                .withEmail("amy@gmail.com").withRole(Role.TA).withModule("CS2103T", "CS2100")
+                .withTelegram("@AmyTele").withFavourite(true).build();
+        assertEquals(expectedPerson, parser.parse(
+                List.of("CS2103T; CS2100", " Amy Bee ", "85355255", "amy@gmail.com", "ta", "@AmyTele", "y")));
+    }
+
+    @Test
+    public void parse_optionalColumnsBlank_success() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(CsvPersonParser.COLUMNS);
+        Person person = parser.parse(List.of("Amy Bee", "85355255", "amy@gmail.com", "prof", "CS2103T", "", ""));
+        assertEquals(new Name("Amy Bee"), person.getName());
+        assertEquals(false, person.hasTelegram());
+        assertEquals(false, person.getIsFavourite());
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(CsvPersonParser.COLUMNS);
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_WRONG_FIELD_COUNT, 7, 2), ()
+                -> parser.parse(List.of("Amy Bee", "85355255")));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, ()
+                -> parser.parse(List.of("Amy&", "85355255", "amy@gmail.com", "prof", "CS2103T", "", "")));
+        assertThrows(ParseException.class, CsvPersonParser.MESSAGE_INVALID_FAVOURITE, ()
+                -> parser.parse(List.of("Amy Bee", "85355255", "amy@gmail.com", "prof", "CS2103T", "", "maybe")));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_displayedPersons_returnsExportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ", new ExportCommand(Paths.get("data/contacts.csv"), false));
+    }
+
+    @Test
+    public void parse_allPersons_returnsExportCommand() {
+        assertParseSuccess(parser, " all  contacts.VCF", new ExportCommand(Paths.get("contacts.VCF"), true));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "all", ExportCommand.MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ExportCommand.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.model.MergePolicy;
+
+public class MergeCommandParserTest {
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_filesOnly_returnsMergeCommand() {
+        assertParseSuccess(parser, " team1.json  data/team2.json ",
+                new MergeCommand(List.of(Paths.get("team1.json"), Paths.get("data/team2.json")), Set.of()));
+    }
+
+    @Test
+    public void parse_filesAndPolicies_returnsMergeCommand() {
+        assertParseSuccess(parser, " team1.json pol/newest pol/Modules pol/favourite",
+                new MergeCommand(List.of(Paths.get("team1.json")), EnumSet.allOf(MergePolicy.class)));
+    }
+
+    @Test
+    public void parse_noFiles_throwsParseException() {
+        assertParseFailure(parser, " pol/newest",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownPolicy_throwsParseException() {
+        assertParseFailure(parser, " team1.json pol/oldest", MergePolicy.MESSAGE_CONSTRAINTS);
+    }
+}
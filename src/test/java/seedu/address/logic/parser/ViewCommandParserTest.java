@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
+
+public class ViewCommandParserTest {
+    private ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_viewName_returnsViewCommand() {
+        assertParseSuccess(parser, "  CS2103T   TAs ", new ViewCommand("CS2103T TAs"));
+    }
+
+    @Test
+    public void parse_save_returnsViewCommand() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Map.of(SearchField.MODULE, List.of("CS2103T"), SearchField.ROLE, List.of("ta")));
+        assertParseSuccess(parser, " save CS2103T TAs mm/CS2103T r/ta", new ViewCommand("CS2103T TAs", predicate));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " save ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidViewName_throwsParseException() {
+        assertParseFailure(parser, " TAs!", ViewCommand.MESSAGE_INVALID_VIEW_NAME);
+        assertParseFailure(parser, " save mm/CS2103T", ViewCommand.MESSAGE_INVALID_VIEW_NAME);
+    }
+
+    @Test
+    public void parse_saveWithoutFields_throwsParseException() {
+        assertParseFailure(parser, " save TAs", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+}
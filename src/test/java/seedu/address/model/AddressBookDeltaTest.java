@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDeltaTest {
+
+    @Test
+    public void between_sameAddressBook_isEmpty() {
+        AddressBookDelta delta = AddressBookDelta.between(getTypicalAddressBook(), getTypicalAddressBook());
+        assertTrue(delta.isEmpty());
+        assertEquals(0, delta.size());
+    }
+
+    @Test
+    public void applyTo_unchangedTarget_allChangesApplied() {
+        AddressBook newVersion = getTypicalAddressBook();
+        newVersion.removePerson(ALICE);
+        newVersion.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        newVersion.addPerson(HOON);
+        AddressBookDelta delta = AddressBookDelta.between(getTypicalAddressBook(), newVersion);
+        assertFalse(delta.isEmpty());
+        assertEquals(3, delta.size());
+
+        AddressBook target = getTypicalAddressBook();
+        assertTrue(delta.applyTo(target).isEmpty());
+        assertEquals(newVersion, target);
+    }
+
+    @Test
+    public void applyTo_targetChangedSamePerson_conflictKeepsTarget() {
+        AddressBook newVersion = getTypicalAddressBook();
+        newVersion.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        newVersion.addPerson(HOON);
+        AddressBookDelta delta = AddressBookDelta.between(getTypicalAddressBook(), newVersion);
+
+        AddressBook target = getTypicalAddressBook();
+        Person editedCarl = new PersonBuilder(CARL).withPhone("98765432").build();
+        target.setPerson(CARL, editedCarl);
+        assertEquals(List.of(CARL.getName()), delta.applyTo(target));
+        assertTrue(target.getPersonList().contains(editedCarl));
+        assertTrue(target.hasName(HOON));
+    }
+
+    @Test
+    public void applyTo_targetMadeSameChange_noConflict() {
+        AddressBook newVersion = getTypicalAddressBook();
+        newVersion.removePerson(ALICE);
+        newVersion.addPerson(HOON);
+        AddressBookDelta delta = AddressBookDelta.between(getTypicalAddressBook(), newVersion);
+
+        AddressBook target = getTypicalAddressBook();
+        target.removePerson(ALICE);
+        target.addPerson(HOON);
+        assertTrue(delta.applyTo(target).isEmpty());
+        assertEquals(newVersion, target);
+    }
+
+    @Test
+    public void equals() {
+        AddressBook newVersion = getTypicalAddressBook();
+        newVersion.addPerson(HOON);
+        AddressBookDelta delta = AddressBookDelta.between(getTypicalAddressBook(), newVersion);
+
+        assertTrue(delta.equals(delta));
+        assertTrue(delta.equals(AddressBookDelta.between(getTypicalAddressBook(), newVersion)));
+        assertFalse(delta.equals(null));
+        assertFalse(delta.equals(AddressBookDelta.between(newVersion, getTypicalAddressBook())));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class AddressBookHistoryTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+    private final AddressBookHistory history = new AddressBookHistory(persons, 2);
+
+    @Test
+    public void undo_noChanges_cannotUndo() {
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_stepOfSeveralChanges_restoredTogether() {
+        List<Person> before = List.copyOf(persons);
+        persons.removeAll(List.of(ALICE, CARL));
+        persons.add(1, ELLE);
+        persons.set(0, FIONA);
+        List<Person> after = List.copyOf(persons);
+        history.commit();
+
+        assertEquals(before, undo());
+        assertTrue(history.canRedo());
+        assertEquals(after, redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_wholeListReplaced_restored() {
+        List<Person> before = List.copyOf(persons);
+        persons.setAll(ALICE, BENSON, ELLE, DANIEL);
+        persons.setAll(List.of());
+        history.commit();
+
+        assertEquals(before, undo());
+        assertEquals(List.of(), redo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoneAsOneStep() {
+        persons.remove(ALICE);
+        persons.remove(BENSON);
+        assertTrue(history.canUndo());
+
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoDiscarded() {
+        persons.remove(ALICE);
+        history.commit();
+        undo();
+        persons.add(ELLE);
+        history.commit();
+
+        assertFalse(history.canRedo());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_tooManySteps_oldestDropped() {
+        persons.add(ELLE);
+        history.commit();
+        persons.add(FIONA);
+        history.commit();
+        persons.remove(ALICE);
+        history.commit();
+
+        undo();
+        undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), persons);
+    }
+
+    @Test
+    public void runUnrecorded_change_notRecorded() {
+        history.runUnrecorded(() -> persons.remove(ALICE));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_manyStepsOnLongList_restoresEachVersion() {
+        List<Person> longList = new ArrayList<>(persons);
+        history.runUnrecorded(() -> persons.setAll(longList));
+        AddressBookHistory longHistory = new AddressBookHistory(persons, AddressBookHistory.DEFAULT_MAX_STEPS);
+        List<List<Person>> versions = new ArrayList<>();
+        versions.add(List.copyOf(persons));
+        Person[] extraPersons = {ELLE, FIONA};
+        for (int i = 0; i < 6; i++) {
+            Person extraPerson = extraPersons[i % 2];
+            if (persons.contains(extraPerson)) {
+                persons.remove(extraPerson);
+            } else {
+                persons.add(i % persons.size(), extraPerson);
+            }
+            longHistory.commit();
+            versions.add(List.copyOf(persons));
+        }
+
+        for (int i = versions.size() - 2; i >= 0; i--) {
+            List<Person> restored = longHistory.undo();
+            longHistory.runUnrecorded(() -> persons.setAll(restored));
+            assertEquals(versions.get(i), persons);
+        }
+    }
+
+    private List<Person> undo() {
+        List<Person> restored = history.undo();
+        history.runUnrecorded(() -> persons.setAll(restored));
+        return restored;
+    }
+
+    private List<Person> redo() {
+        List<Person> restored = history.redo();
+        history.runUnrecorded(() -> persons.setAll(restored));
+        return restored;
+    }
+}
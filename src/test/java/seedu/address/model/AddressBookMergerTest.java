@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookMergerTest {
+
+    private static final Person NEWER_ALICE = new PersonBuilder(ALICE).withPhone("11111111").withModule("CS2100")
+            .withFavourite(true).build();
+
+    @Test
+    public void merge_newPersons_addedAfterBase() {
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE), Set.of());
+        merger.merge(addressBookOf(BENSON, ALICE));
+        merger.merge(addressBookOf(CARL));
+
+        assertEquals(addressBookOf(ALICE, BENSON, CARL), merger.toAddressBook());
+        assertEquals(2, merger.getAddedCount());
+        assertEquals(0, merger.getUpdatedCount());
+    }
+
+    @Test
+    public void merge_noPolicy_firstVersionKept() {
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE), Set.of());
+        merger.merge(addressBookOf(NEWER_ALICE));
+
+        assertEquals(addressBookOf(ALICE), merger.toAddressBook());
+        assertEquals(0, merger.getUpdatedCount());
+    }
+
+    @Test
+    public void merge_keepNewest_newestVersionKept() {
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE), Set.of(MergePolicy.KEEP_NEWEST));
+        merger.merge(addressBookOf(NEWER_ALICE));
+
+        assertEquals(addressBookOf(NEWER_ALICE), merger.toAddressBook());
+        assertEquals(1, merger.getUpdatedCount());
+    }
+
+    @Test
+    public void merge_unionModulesAndKeepFavourite_combined() {
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE),
+                EnumSet.of(MergePolicy.UNION_MODULES, MergePolicy.KEEP_FAVOURITE));
+        merger.merge(addressBookOf(NEWER_ALICE));
+
+        Person expectedAlice = new PersonBuilder(ALICE).withModule("CS2103T", "CS2100").withFavourite(true).build();
+        assertEquals(addressBookOf(expectedAlice), merger.toAddressBook());
+    }
+
+    @Test
+    public void merge_telegramOfOtherPerson_skipped() {
+        Person bobWithAliceTelegram = new PersonBuilder(BOB).withTelegram("@AliceTele").build();
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE), Set.of());
+        merger.merge(addressBookOf(bobWithAliceTelegram, CARL));
+
+        assertEquals(addressBookOf(ALICE, CARL), merger.toAddressBook());
+        assertEquals(List.of(bobWithAliceTelegram), merger.getSkippedPersons());
+    }
+
+    @Test
+    public void merge_telegramFreedByNewerVersion_canBeTaken() {
+        Person aliceWithNewTelegram = new PersonBuilder(ALICE).withTelegram("@AliceNew").build();
+        Person bobWithAliceTelegram = new PersonBuilder(BOB).withTelegram("@AliceTele").build();
+        AddressBookMerger merger = new AddressBookMerger(addressBookOf(ALICE), Set.of(MergePolicy.KEEP_NEWEST));
+        merger.merge(addressBookOf(aliceWithNewTelegram, bobWithAliceTelegram));
+
+        assertEquals(addressBookOf(aliceWithNewTelegram, bobWithAliceTelegram), merger.toAddressBook());
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (Person person : persons) {
+            builder.withPerson(person);
+        }
+        return builder.build();
+    }
+}
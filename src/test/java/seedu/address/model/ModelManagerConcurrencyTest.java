@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Stress tests for reading snapshots of a {@code ModelManager} on many threads while another thread changes it.
+ */
+public class ModelManagerConcurrencyTest {
+
+    private static final int READER_COUNT = 4;
+    private static final int WRITE_ROUNDS = 300;
+
+    private final List<Person> basePersons = createPersons("Base", 300);
+    private final List<Person> extraPersons = createPersons("Extra", 200);
+    private final List<Person> otherPersons = createPersons("Other", 100);
+
+    @Test
+    public void getAddressBookSnapshot_concurrentChanges_noTornReads() throws Exception {
+        ModelManager model = new ModelManager();
+        model.setAddressBook(toAddressBook(basePersons));
+
+        // Every change leaves the address book in one of these states, so a snapshot must match one of them.
+        List<Person> baseAndExtraPersons = new ArrayList<>(basePersons);
+        baseAndExtraPersons.addAll(extraPersons);
+        List<List<Person>> validStates = List.of(basePersons, baseAndExtraPersons, otherPersons);
+
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicLong readCount = new AtomicLong();
+        Queue<String> tornReads = new ConcurrentLinkedQueue<>();
+        CountDownLatch readersStarted = new CountDownLatch(READER_COUNT);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            Thread reader = new Thread(() -> {
+                readersStarted.countDown();
+                while (isWriting.get()) {
+                    List<Person> persons = model.getAddressBookSnapshot().getPersonList();
+                    if (!validStates.contains(persons)) {
+                        tornReads.add("Snapshot of " + persons.size() + " persons matches no state");
+                    }
+                    readCount.incrementAndGet();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        readersStarted.await();
+        AddressBook otherAddressBook = toAddressBook(otherPersons);
+        AddressBook baseAddressBook = toAddressBook(basePersons);
+        for (int round = 0; round < WRITE_ROUNDS; round++) {
+            model.addPersons(extraPersons);
+            model.deletePersons(extraPersons);
+            model.setAddressBook(otherAddressBook);
+            model.setAddressBook(baseAddressBook);
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(tornReads.isEmpty(), tornReads.size() + " torn reads, e.g. " + tornReads.peek());
+        assertTrue(readCount.get() > 0);
+        assertEquals(basePersons, model.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_concurrentSingleChanges_noTornReads() throws Exception {
+        ModelManager model = new ModelManager();
+        model.setAddressBook(toAddressBook(basePersons));
+        Person extraPerson = extraPersons.get(0);
+
+        // A snapshot holds either all base persons, or all of them with the extra person in place of the first one.
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        Queue<String> tornReads = new ConcurrentLinkedQueue<>();
+        Thread reader = new Thread(() -> {
+            while (isWriting.get()) {
+                List<Person> persons = model.getAddressBookSnapshot().getPersonList();
+                boolean isBase = persons.equals(basePersons);
+                boolean isReplaced = persons.size() == basePersons.size()
+                        && persons.get(0).equals(extraPerson)
+                        && persons.subList(1, persons.size()).equals(basePersons.subList(1, basePersons.size()));
+                if (!isBase && !isReplaced) {
+                    tornReads.add("Snapshot of " + persons.size() + " persons matches no state");
+                }
+            }
+        });
+        reader.start();
+
+        for (int round = 0; round < WRITE_ROUNDS * 10; round++) {
+            model.setPerson(basePersons.get(0), extraPerson);
+            model.setPerson(extraPerson, basePersons.get(0));
+        }
+        isWriting.set(false);
+        reader.join();
+
+        assertTrue(tornReads.isEmpty(), tornReads.size() + " torn reads, e.g. " + tornReads.peek());
+    }
+
+    private static List<Person> createPersons(String namePrefix, int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName(namePrefix + " " + i).withoutTelegram().build());
+        }
+        return persons;
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}
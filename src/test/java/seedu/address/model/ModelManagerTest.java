@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,8 +20,10 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -107,6 +111,108 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasTelegram(ALICE));
     }
 
+    @Test
+    public void getAddressBookGeneration_mutations_incrementsGeneration() {
+        long generation = modelManager.getAddressBookGeneration();
+
+        modelManager.addPerson(ALICE);
+        assertEquals(generation + 1, modelManager.getAddressBookGeneration());
+
+        modelManager.setPerson(ALICE, BENSON);
+        assertEquals(generation + 2, modelManager.getAddressBookGeneration());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(generation + 3, modelManager.getAddressBookGeneration());
+
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(generation + 4, modelManager.getAddressBookGeneration());
+    }
+
+    @Test
+    public void getAddressBookGeneration_filterOnly_generationUnchanged() {
+        long generation = modelManager.getAddressBookGeneration();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(generation, modelManager.getAddressBookGeneration());
+    }
+
+    @Test
+    public void mergeAddressBookDelta_changes_appliedInOneUpdate() {
+        modelManager.addPerson(ALICE);
+        AddressBook newVersion = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        AddressBookDelta delta = AddressBookDelta.between(modelManager.getAddressBook(), newVersion);
+        long generation = modelManager.getAddressBookGeneration();
+
+        assertTrue(modelManager.mergeAddressBookDelta(delta).isEmpty());
+        assertEquals(newVersion, modelManager.getAddressBook());
+        assertEquals(generation + 1, modelManager.getAddressBookGeneration());
+
+        // merging changes that are already in the model changes nothing
+        assertTrue(modelManager.mergeAddressBookDelta(delta).isEmpty());
+        assertEquals(generation + 1, modelManager.getAddressBookGeneration());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(CARL);
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(List.of(BENSON, CARL), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_noChanges_sameSnapshot() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_modifyList_throwsUnsupportedOperationException() {
+        modelManager.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                modelManager.getAddressBookSnapshot().getPersonList().remove(0));
+    }
+
+    @Test
+    public void constructor_savedViewsInUserPrefs_viewsRestored() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSavedView("Bensons", Map.of(PersonContainsKeywordsPredicate.SearchField.NAME, List.of("benson")));
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                userPrefs);
+
+        assertTrue(modelManager.hasView("Bensons"));
+        assertFalse(modelManager.hasView("bensons"));
+        modelManager.showView("Bensons");
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void saveView_personsChanged_viewUpdated() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.saveView("Carls", new PersonContainsKeywordsPredicate(
+                Map.of(PersonContainsKeywordsPredicate.SearchField.NAME, List.of("carl"))));
+        modelManager.showView("Carls");
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        // The filtered list follows the view while it is shown.
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Carlson").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, CARL), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+
+        // Saving a shown view again shows the new view.
+        modelManager.saveView("Carls", new PersonContainsKeywordsPredicate(
+                Map.of(PersonContainsKeywordsPredicate.SearchField.NAME, List.of("pauline"))));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangePublisherTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void commitAddressBook_changesByCommand_publishedAsBatches() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        model.getPersonChangePublisher().subscribe(subscriber);
+        subscriber.awaitSubscription();
+
+        Person editedAmy = new PersonBuilder(AMY).withPhone("99999999").build();
+        model.addPerson(AMY);
+        model.setPerson(AMY, editedAmy);
+        model.commitAddressBook();
+        assertEquals(new PersonChangeBatch(List.of(PersonChange.added(1, AMY),
+                PersonChange.replaced(2, AMY, editedAmy))), subscriber.takeBatch());
+
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        assertEquals(new PersonChangeBatch(List.of(PersonChange.removed(3, ALICE))), subscriber.takeBatch());
+
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        assertEquals(new PersonChangeBatch(List.of(PersonChange.cleared(4))), subscriber.takeBatch());
+    }
+
+    @Test
+    public void commitAddressBook_noChanges_nothingPublished() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        model.getPersonChangePublisher().subscribe(subscriber);
+        subscriber.awaitSubscription();
+
+        model.commitAddressBook();
+        model.updateFilteredPersonList(ALICE::equals);
+        model.commitAddressBook();
+        assertNull(subscriber.batches.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void publish_listReplaced_changesMatchedByName() throws Exception {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        PersonChangePublisher publisher = new PersonChangePublisher(persons, executor, Flow.defaultBufferSize());
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        subscriber.awaitSubscription();
+
+        persons.setAll(editedBenson, CARL, AMY);
+        publisher.publish();
+        assertEquals(new PersonChangeBatch(List.of(PersonChange.removed(1, ALICE),
+                PersonChange.replaced(2, BENSON, editedBenson), PersonChange.added(3, AMY))), subscriber.takeBatch());
+    }
+
+    @Test
+    public void publish_slowSubscriber_writerNotBlocked() throws Exception {
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        PersonChangePublisher publisher = new PersonChangePublisher(persons, executor, 2);
+        CollectingSubscriber fastSubscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        CountDownLatch slowSubscriberReleased = new CountDownLatch(1);
+        CollectingSubscriber slowSubscriber = new CollectingSubscriber(1) {
+            @Override
+            public void onNext(PersonChangeBatch batch) {
+                try {
+                    slowSubscriberReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(batch);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(fastSubscriber);
+        publisher.subscribe(slowSubscriber);
+        fastSubscriber.awaitSubscription();
+        slowSubscriber.awaitSubscription();
+
+        // The writer keeps pace with the fast subscriber, which therefore receives every batch, in order.
+        int batchCount = 100;
+        List<Long> fastSequenceNumbers = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < batchCount; i++) {
+                    persons.add(new PersonBuilder().withName("Person " + i).withoutTelegram().build());
+                    publisher.publish();
+                    fastSequenceNumbers.add(fastSubscriber.takeBatch().getFirstSequenceNumber());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        writer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(writer.isAlive(), "The writer waited for the slow subscriber");
+        for (int i = 0; i < batchCount; i++) {
+            assertEquals(i + 1, (long) fastSequenceNumbers.get(i));
+        }
+
+        // The slow subscriber missed batches, which shows as a gap in the sequence numbers.
+        slowSubscriberReleased.countDown();
+        List<Long> receivedSequenceNumbers = new ArrayList<>();
+        for (PersonChangeBatch batch = slowSubscriber.takeBatch(); batch != null;
+                batch = slowSubscriber.batches.poll(100, TimeUnit.MILLISECONDS)) {
+            receivedSequenceNumbers.add(batch.getFirstSequenceNumber());
+        }
+        assertTrue(receivedSequenceNumbers.size() < batchCount);
+        assertEquals(1, (long) receivedSequenceNumbers.get(0));
+    }
+
+    /**
+     * A subscriber that collects the batches it receives, and requests {@code initialRequest} at first.
+     */
+    private static class CollectingSubscriber implements Flow.Subscriber<PersonChangeBatch> {
+        protected Flow.Subscription subscription;
+        private final BlockingQueue<PersonChangeBatch> batches = new LinkedBlockingQueue<>();
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final long initialRequest;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(PersonChangeBatch batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {}
+
+        void awaitSubscription() throws InterruptedException {
+            assertTrue(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        PersonChangeBatch takeBatch() throws InterruptedException {
+            return batches.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyPersonTest {
+
+    private static LazyPerson createLazyPerson(Person person, Supplier<Person> loader) {
+        return new LazyPerson(person.getName(), person.getRole(), person.getModules(), person.getIsFavourite(),
+                person.getTelegram(), loader);
+    }
+
+    @Test
+    public void constructor_nullLoader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createLazyPerson(ALICE, null));
+    }
+
+    @Test
+    public void getPhone_firstAccess_loadsOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        LazyPerson lazyAlice = createLazyPerson(ALICE, () -> {
+            loadCount.incrementAndGet();
+            return ALICE;
+        });
+
+        // fields known upfront do not load the person
+        assertEquals(ALICE.getName(), lazyAlice.getName());
+        assertTrue(lazyAlice.isSameName(ALICE));
+        assertFalse(lazyAlice.isLoaded());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(ALICE.getPhone(), lazyAlice.getPhone());
+        assertEquals(ALICE.getEmail(), lazyAlice.getEmail());
+        assertTrue(lazyAlice.isLoaded());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void equals() {
+        LazyPerson lazyAlice = createLazyPerson(ALICE, () -> ALICE);
+
+        // same values -> returns true, in both directions
+        assertTrue(lazyAlice.equals(ALICE));
+        assertTrue(ALICE.equals(lazyAlice));
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+
+        // different values -> returns false
+        assertFalse(lazyAlice.equals(BOB));
+        assertFalse(createLazyPerson(ALICE, () -> BOB).equals(ALICE));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,4 +58,11 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Name name = new Name("Valid Name");
+        assertTrue(name.equals(new Name("VALID name")));
+        assertEquals(name.hashCode(), new Name("VALID name").hashCode());
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -98,6 +99,60 @@ public class UniquePersonListTest {
         assertThrows(DuplicateNameException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_addsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.containsTelegram(CARL));
+    }
+
+    @Test
+    public void addAll_duplicateOfExistingPerson_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicateNameException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePersonList.containsName(BOB));
+    }
+
+    @Test
+    public void addAll_duplicateTelegramWithinBatch_throwsDuplicateTelegramException() {
+        Person bobWithCarlTelegram = new PersonBuilder(BOB).withTelegram(CARL.getTelegram().get().toString()).build();
+        assertThrows(DuplicateTelegramException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(CARL, bobWithCarlTelegram)));
+        assertFalse(uniquePersonList.containsName(CARL));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.containsTelegram(CARL));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(BOB, CARL)));
+        assertTrue(uniquePersonList.containsName(BOB));
+    }
+
+    @Test
+    public void removeAll_lazyPersons_notLoaded() {
+        LazyPerson lazyBob = new LazyPerson(BOB.getName(), BOB.getRole(), BOB.getModules(), BOB.getIsFavourite(),
+                BOB.getTelegram(), () -> {
+                    throw new AssertionError("Removing a person should not load it.");
+                });
+        uniquePersonList.setPersons(Arrays.asList(ALICE, lazyBob, CARL));
+        uniquePersonList.removeAll(List.of(lazyBob, CARL));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(lazyBob.isLoaded());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -159,6 +214,19 @@ public class UniquePersonListTest {
         assertThrows(DuplicateNameException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.containsName(ALICE));
+        assertTrue(uniquePersonList.containsName(BOB));
+        assertTrue(uniquePersonList.containsTelegram(BOB));
+
+        // ALICE can be added again now that her name is no longer in use
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -177,6 +245,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityFreed() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.containsName(BOB));
+        assertFalse(uniquePersonList.containsTelegram(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -206,6 +282,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.containsName(ALICE));
+        assertTrue(uniquePersonList.containsName(BOB));
+        assertTrue(uniquePersonList.containsTelegram(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
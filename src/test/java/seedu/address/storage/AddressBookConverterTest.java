@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_sourcePresent_converted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        binaryStorage.saveAddressBook(new AddressBook());
+
+        // an explicit conversion replaces the data in the target, even if it is newer
+        assertTrue(AddressBookConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_sourceMissing_notConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertFalse(AddressBookConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_journaledSource_journalCarriedOver() throws Exception {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(binaryStorage);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_severalSources_newestConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        ShardedAddressBookStorage shardedStorage =
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.shards.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(HOON);
+        binaryStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfMissing(List.of(jsonStorage, binaryStorage), shardedStorage));
+        assertEquals(original, new AddressBook(shardedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_targetPresent_notConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        binaryStorage.saveAddressBook(original);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+        jsonStorage.saveAddressBook(new AddressBook());
+
+        // a newer file in another format does not replace the data in the current format
+        assertFalse(AddressBookConverter.convertIfMissing(List.of(jsonStorage), binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void foldJournal_journalPresent_changesKeptAndJournalDeleted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(jsonStorage);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        AddressBookConverter.foldJournal(jsonStorage);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(jsonStorage.getAddressBookFilePath())));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "not binary format!");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file with a smaller book, and read back
+        Person favouriteAlice = new PersonBuilder(ALICE).withFavourite(true).build();
+        original.setPerson(ALICE, favouriteAlice);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_lazy_detailsLoadedOnAccess() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        LazyPerson firstPerson = (LazyPerson) readBack.getPersonList().get(0);
+        assertFalse(firstPerson.isLoaded());
+        assertEquals(original.getPersonList().get(0).getPhone(), firstPerson.getPhone());
+        assertTrue(firstPerson.isLoaded());
+
+        // replacing the file does not affect persons that are still backed by the old file
+        lazyStorage.saveAddressBook(readBack);
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+        assertEquals(getTypicalAddressBook(), new AddressBook(lazyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_overMappedFile_mappedDataFileNotReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        lazyStorage.saveAddressBook(original);
+        Path mappedDataFilePath = BinaryAddressBookStorage.getDataFilePath(filePath);
+
+        // the persons read back are still backed by the mapped data file while it is saved over
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        assertFalse(((LazyPerson) readBack.getPersonList().get(0)).isLoaded());
+        lazyStorage.saveAddressBook(readBack);
+        lazyStorage.saveAddressBook(readBack);
+
+        assertNotEquals(mappedDataFilePath, BinaryAddressBookStorage.getDataFilePath(filePath));
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original, new AddressBook(lazyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unusedDataFiles_deleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path leftoverDataFilePath = testFolder.resolve("TempAddressBook.bin.123.data");
+        Files.writeString(leftoverDataFilePath, "left behind by an interrupted save");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(Files.exists(leftoverDataFilePath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath, BinaryAddressBookStorage.getDataFilePath(filePath)),
+                    files.sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_recordsInAddressBookFile_success() throws Exception {
+        // address book files written before the records were kept in data files of their own
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        Files.createFile(filePath);
+        BinaryAddressBookStorage.writeAddressBook(original, filePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        assertEquals(filePath, BinaryAddressBookStorage.getDataFilePath(filePath));
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        assertNotEquals(filePath, BinaryAddressBookStorage.getDataFilePath(filePath));
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void checkModuleCount() throws Exception {
+        BinaryAddressBookStorage.checkModuleCount(BinaryAddressBookStorage.MAX_MODULE_COUNT);
+        assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_TOO_MANY_MODULES,
+                BinaryAddressBookStorage.MAX_MODULE_COUNT, BinaryAddressBookStorage.MAX_MODULE_COUNT + 1), () ->
+                BinaryAddressBookStorage.checkModuleCount(BinaryAddressBookStorage.MAX_MODULE_COUNT + 1));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("A.bin"))
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "academysource.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "academysource.json")));
+        assertEquals(Paths.get("data", "academysource.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "academysource")));
+    }
+}
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_afterChanges_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, edit and delete are appended to the journal without touching the snapshot
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").withFavourite(true).build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // further changes continue the same journal
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_farApartChanges_onlyChangedPersonsJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 200; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withoutTelegram().build());
+        }
+        storage.saveAddressBook(original);
+
+        // edits at both ends of the list, as saved together after several commands
+        Person first = original.getPersonList().get(0);
+        Person last = original.getPersonList().get(199);
+        original.setPerson(first, new PersonBuilder(first).withPhone("91234567").build());
+        original.setPerson(last, new PersonBuilder(last).withFavourite(true).build());
+        storage.saveAddressBook(original);
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(2, journal.size());
+        String singlePersonEntry = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(first));
+        assertTrue(journal.get(1).length() < 3 * singlePersonEntry.length());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_singleRangeEntry_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // entries written before a change could span several ranges
+        String entry = "{\"index\":0,\"removeCount\":1,\"persons\":["
+                + JsonUtil.toCompactJsonString(new JsonAdaptedPerson(HOON)) + "]}\n";
+        Files.write(journalFilePath, entry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        original.setPerson(ALICE, HOON);
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        // the snapshot alone holds the latest data, and the journal only has its header left
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_duringCompaction_appendedToNewJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        BlockingSnapshotStorage snapshotStorage = new BlockingSnapshotStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(snapshotStorage, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        snapshotStorage.blockSnapshots();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(snapshotStorage.awaitSnapshotStarted());
+        AddressBook compacted = new AddressBook(original);
+
+        // saves are not held up by the snapshot being written
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        snapshotStorage.allowSnapshots();
+        storage.flushAddressBook();
+
+        assertEquals(compacted, new AddressBook(snapshotStorage.readAddressBook().get()));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(snapshotStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_journalRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the journal was written next to the snapshot, but not yet moved into place
+        Path tempJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+        Files.move(journalFilePath, tempJournalFilePath);
+        Files.writeString(journalFilePath, "0\n");
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+        assertTrue(Files.notExists(tempJournalFilePath));
+
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a snapshot written without the journal, as left behind by an interrupted compaction
+        AddressBook replaced = getTypicalAddressBook();
+        replaced.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(replaced);
+
+        assertEquals(replaced, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalFilePath, "{\"index\":0,\"remove".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(jsonAddressBookStorage);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // the next save starts over with a full snapshot instead of appending to the damaged journal
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json")));
+        assertTrue(storage.readAddressBook().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that can hold up writes of snapshots to other files than its own.
+     */
+    private static class BlockingSnapshotStorage extends JsonAddressBookStorage {
+        private CountDownLatch snapshotStarted = new CountDownLatch(1);
+        private CountDownLatch snapshotsAllowed = new CountDownLatch(0);
+
+        BlockingSnapshotStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void blockSnapshots() {
+            snapshotStarted = new CountDownLatch(1);
+            snapshotsAllowed = new CountDownLatch(1);
+        }
+
+        void allowSnapshots() {
+            snapshotsAllowed.countDown();
+        }
+
+        boolean awaitSnapshotStarted() throws InterruptedException {
+            return snapshotStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!filePath.equals(getAddressBookFilePath())) {
+                snapshotStarted.countDown();
+                try {
+                    snapshotsAllowed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+}
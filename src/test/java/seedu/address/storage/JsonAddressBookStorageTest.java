@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +88,87 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(filePath, true, JsonUtil.NO_COMPRESSION);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // compact and pretty-printed files can be read by either storage
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 9);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // compression is detected from the file content, so an uncompressed storage can read it too
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersonsReused_sameContent() throws Exception {
+        assertReusedPersonsSameContent(false);
+        assertReusedPersonsSameContent(true);
+    }
+
+    /**
+     * Asserts that saving an edited address book with a storage that has saved it before writes exactly what the
+     * whole address book serializes to.
+     */
+    private void assertReusedPersonsSameContent(boolean isCompact) throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(filePath, isCompact, JsonUtil.NO_COMPRESSION);
+        AddressBook addressBook = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+        JsonSerializableAddressBook serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        String expectedContent = isCompact
+                ? JsonUtil.toCompactJsonString(serializableAddressBook)
+                : JsonUtil.toJsonString(serializableAddressBook);
+        assertEquals(expectedContent, Files.readString(filePath));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(filePath, false, -2));
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(filePath, false, 10));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
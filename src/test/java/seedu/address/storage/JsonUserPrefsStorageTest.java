@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.SearchField;
 
 public class JsonUserPrefsStorageTest {
 
@@ -74,6 +77,8 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("academysource.json"));
+        userPrefs.setSavedView("CS2103T TAs", Map.of(SearchField.MODULE, List.of("CS2103T"),
+                SearchField.ROLE, List.of("ta")));
         return userPrefs;
     }
 
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ModuleRegistry;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class ParallelPersonConverterTest {
+
+    private static final List<String> VALID_MODULES = BENSON.getModules().stream()
+            .map(ModuleRegistry.Module::getModuleCode)
+            .collect(Collectors.toList());
+
+    @Test
+    public void finish_manyChunks_originalOrderKept() throws Exception {
+        List<Person> expected = getTypicalPersons();
+        try (ParallelPersonConverter converter = new ParallelPersonConverter(3, 2)) {
+            for (Person person : expected) {
+                converter.add(new JsonAdaptedPerson(person));
+            }
+            assertEquals(expected, converter.finish());
+        }
+    }
+
+    @Test
+    public void finish_invalidRecordsInSeveralChunks_firstInvalidRecordReported() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (Person person : getTypicalPersons()) {
+            records.add(new JsonAdaptedPerson(person));
+        }
+        // the invalid name is reported, whichever worker happens to fail first
+        records.add(1, new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com", VALID_MODULES, "ta",
+                false, ""));
+        records.add(records.size(), new JsonAdaptedPerson("Rachel", "-651234", "rachel@example.com",
+                VALID_MODULES, "ta", false, ""));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> {
+            try (ParallelPersonConverter converter = new ParallelPersonConverter(2, 4)) {
+                for (JsonAdaptedPerson record : records) {
+                    converter.add(record);
+                }
+                converter.finish();
+            }
+        });
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.convertAll(records.subList(2, records.size())));
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidRecord_duplicateReported() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (Person person : getTypicalPersons()) {
+            records.add(new JsonAdaptedPerson(person));
+        }
+        // the duplicate comes before the invalid record, so it is reported even if its chunk is converted later
+        records.add(new JsonAdaptedPerson(BENSON));
+        records.add(new JsonAdaptedPerson("R@chel", "98765432", "rachel@example.com", VALID_MODULES, "ta",
+                false, ""));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.convertAll(records));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> {
+            try (ParallelPersonConverter converter = new ParallelPersonConverter(2, 4)) {
+                converter.add(records.get(records.size() - 1));
+                converter.add(new JsonAdaptedPerson(BENSON));
+                converter.add(new JsonAdaptedPerson(BENSON));
+                converter.finish();
+            }
+        });
+    }
+
+    @Test
+    public void convertAll_noRecords_emptyList() throws Exception {
+        assertEquals(List.of(), ParallelPersonConverter.convertAll(List.of()));
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.shards.json"), 0));
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook.shards.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("NonExistent.shards.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.shards.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // persons keep their place in the list when they are added and edited between other persons
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        original.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath, 4).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_singleChange_onlyChangedShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.shards.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, 4).saveAddressBook(original);
+        Set<String> oldShardFiles = getShardFiles();
+
+        // a new storage reading the existing shards knows what is already saved
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedCarl = new PersonBuilder(addressBook.getPersonList().get(2)).withPhone("91234567").build();
+        addressBook.setPerson(addressBook.getPersonList().get(2), editedCarl);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> newShardFiles = getShardFiles();
+        assertEquals(4, newShardFiles.size());
+        Set<String> unchangedShardFiles = new HashSet<>(newShardFiles);
+        unchangedShardFiles.retainAll(oldShardFiles);
+        assertEquals(3, unchangedShardFiles.size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath, 4).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChange_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.shards.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String manifest = Files.readString(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(manifest, Files.readString(filePath));
+    }
+
+    @Test
+    public void readAddressBook_otherShardCount_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.shards.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, 3).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 5);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertEquals(5, getShardFiles().size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.shards.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.resolve(getShardFiles().iterator().next()));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_allShardsWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("a.shards.json"), 4);
+        Path otherFilePath = testFolder.resolve("b.shards.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    private Set<String> getShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("addressbook.shards-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
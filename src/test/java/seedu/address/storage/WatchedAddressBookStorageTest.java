@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+
+public class WatchedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void checkForExternalChanges_ownSave_noChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.checkForExternalChanges().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChanges_externalSave_changesFound() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook externalAddressBook = getTypicalAddressBook();
+        externalAddressBook.removePerson(ALICE);
+        externalAddressBook.addPerson(HOON);
+        saveExternally(filePath, externalAddressBook);
+
+        assertEquals(AddressBookDelta.between(getTypicalAddressBook(), externalAddressBook),
+                storage.checkForExternalChanges().get());
+        // the same changes are not reported twice
+        assertFalse(storage.checkForExternalChanges().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChanges_journalCompacted_noChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(jsonAddressBookStorage, 100);
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(journaledStorage,
+                new JsonAddressBookStorage(filePath));
+        journaledStorage.setDataFileWriteGuard(storage::guardDataFileWrite);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(storage.checkForExternalChanges().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_journalAfterExternalSave_externalChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(
+                new JournaledAddressBookStorage(jsonAddressBookStorage), new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook externalAddressBook = getTypicalAddressBook();
+        externalAddressBook.addPerson(HOON);
+        saveExternally(filePath, externalAddressBook);
+        assertTrue(storage.checkForExternalChanges().isPresent());
+
+        // the journal of the replaced data file is not appended to
+        externalAddressBook.addPerson(IDA);
+        storage.saveAddressBook(externalAddressBook);
+        assertEquals(externalAddressBook, new AddressBook(
+                new JournaledAddressBookStorage(jsonAddressBookStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void startWatching_externalSave_listenerCalled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath),
+                new JsonAddressBookStorage(filePath), 50);
+        storage.saveAddressBook(getTypicalAddressBook());
+        CompletableFuture<AddressBookDelta> reportedDelta = new CompletableFuture<>();
+        storage.startWatching(reportedDelta::complete);
+        try {
+            AddressBook externalAddressBook = getTypicalAddressBook();
+            externalAddressBook.addPerson(HOON);
+            saveExternally(filePath, externalAddressBook);
+
+            assertEquals(AddressBookDelta.between(getTypicalAddressBook(), externalAddressBook),
+                    reportedDelta.get(10, TimeUnit.SECONDS));
+        } finally {
+            storage.stopWatching();
+        }
+    }
+
+    private static WatchedAddressBookStorage createStorage(Path filePath) {
+        return new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath),
+                new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} the way another program would.
+     */
+    private static void saveExternally(Path filePath, AddressBook addressBook) throws Exception {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        // make sure the change is visible even on file systems with a coarse modification time
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(lastModifiedTime.toMillis() + 2000));
+    }
+}
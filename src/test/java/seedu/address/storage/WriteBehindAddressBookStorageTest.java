@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_dataWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // read through the write-behind storage sees the latest save
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterModification_snapshotUnaffected() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+
+        recordingStorage.blockWrites();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        recordingStorage.unblockWrites();
+        storage.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(recordingStorage.getSaved().get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // the first write holds up the writer thread while more saves arrive
+        recordingStorage.blockWrites();
+        storage.saveAddressBook(addressBook);
+        assertTrue(recordingStorage.awaitWriteStarted());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.unblockWrites();
+        storage.flushAddressBook();
+
+        List<ReadOnlyAddressBook> saved = recordingStorage.getSaved();
+        assertEquals(2, saved.size());
+        assertEquals(addressBook, new AddressBook(saved.get(1)));
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_throwsIoException() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        recordingStorage.failWrites();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flushAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_writeFailsOnce_reportedAndRetried() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        recordingStorage.failNextWrite();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage, 10);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storage.setWriteFailureListener(failures::add);
+        AddressBook original = getTypicalAddressBook();
+
+        // no further save or flush is needed for the failed write to be retried
+        storage.saveAddressBook(original);
+        assertTrue(recordingStorage.awaitWritten());
+        assertEquals(1, failures.size());
+        assertEquals(original, new AddressBook(recordingStorage.getSaved().get(0)));
+
+        // the failure was recovered from, so it is not thrown any more
+        storage.flushAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new RecordingAddressBookStorage());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records every address book written to it.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch written = new CountDownLatch(1);
+        private CountDownLatch writesAllowed = new CountDownLatch(0);
+        private volatile int remainingFailures;
+
+        void blockWrites() {
+            writesAllowed = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesAllowed.countDown();
+        }
+
+        void failWrites() {
+            remainingFailures = Integer.MAX_VALUE;
+        }
+
+        void failNextWrite() {
+            remainingFailures = 1;
+        }
+
+        boolean awaitWriteStarted() throws InterruptedException {
+            return writeStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        boolean awaitWritten() throws InterruptedException {
+            return written.await(5, TimeUnit.SECONDS);
+        }
+
+        synchronized List<ReadOnlyAddressBook> getSaved() {
+            return new ArrayList<>(saved);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Path.of("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesAllowed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (remainingFailures > 0) {
+                remainingFailures--;
+                throw new IOException("dummy IO exception");
+            }
+            synchronized (this) {
+                saved.add(addressBook);
+            }
+            written.countDown();
+        }
+
+        @Override
+        public void flushAddressBook() {
+        }
+    }
+}
@@ -117,6 +117,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Removes the {@code telegram} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withoutTelegram() {
+        this.telegram = Optional.empty();
+        return this;
+    }
+
     public Person build() {
         return new Person(name, phone, email, role, modules, isFavourite, telegram);
     }
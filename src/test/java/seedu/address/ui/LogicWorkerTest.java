@@ -0,0 +1,217 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class LogicWorkerTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY + ROLE_DESC_AMY + MODULE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> workerTasks = new ArrayList<>();
+    private final List<Runnable> pulses = new ArrayList<>();
+    private final List<CommandResult> results = new ArrayList<>();
+    private final List<Exception> failures = new ArrayList<>();
+    private LogicWorker logicWorker;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logicWorker = new LogicWorker(new LogicManager(model, storage), workerTasks::add, pulses::add);
+    }
+
+    @Test
+    public void execute_validCommand_copiesUpdatedWithResult() {
+        logicWorker.execute(ADD_AMY_COMMAND, results::add, failures::add);
+        assertEquals(1, workerTasks.size());
+
+        workerTasks.remove(0).run();
+        assertTrue(model.getAddressBook().getPersonList().contains(new PersonBuilder(AMY).build()));
+        assertEquals(model.getAddressBook().getPersonList().size() - 1,
+                logicWorker.getUnfilteredPersonList().size());
+        assertEquals(0, results.size());
+
+        pulses.remove(0).run();
+        assertEquals(1, results.size());
+        assertEquals(model.getFilteredPersonList(), logicWorker.getFilteredPersonList());
+        assertEquals(model.getAddressBook().getPersonList(), logicWorker.getUnfilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidCommand_failureReported() {
+        List<Person> personsBefore = new ArrayList<>(logicWorker.getFilteredPersonList());
+        logicWorker.execute("unknown", results::add, failures::add);
+        workerTasks.remove(0).run();
+        pulses.remove(0).run();
+
+        assertEquals(0, results.size());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof ParseException);
+        assertEquals(personsBefore, logicWorker.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_commandsEnteredMeanwhile_runInOrder() {
+        logicWorker.execute(DeleteCommand.COMMAND_WORD + " 1", results::add, failures::add);
+        logicWorker.execute(DeleteCommand.COMMAND_WORD + " 1", results::add, failures::add);
+        assertEquals(2, workerTasks.size());
+
+        workerTasks.remove(0).run();
+        workerTasks.remove(0).run();
+        pulses.remove(0).run();
+        pulses.remove(0).run();
+        assertEquals(2, results.size());
+        assertEquals(CARL, logicWorker.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void shutdownAndAwait_queuedCommands_finishedThenLaterDropped() {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        LogicWorker shutdownWorker = new LogicWorker(new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))), worker, pulses::add);
+        shutdownWorker.execute(DeleteCommand.COMMAND_WORD + " 1", results::add, failures::add);
+        shutdownWorker.execute(DeleteCommand.COMMAND_WORD + " 1", results::add, failures::add);
+
+        assertTrue(shutdownWorker.shutdownAndAwait());
+        assertTrue(worker.isShutdown());
+        assertEquals(CARL, model.getAddressBook().getPersonList().get(0));
+
+        shutdownWorker.execute(DeleteCommand.COMMAND_WORD + " 1", results::add, failures::add);
+        assertEquals(CARL, model.getAddressBook().getPersonList().get(0));
+        assertEquals(2, pulses.size());
+    }
+
+    @Test
+    public void updatePredicate_filteredCopyUpdated() {
+        logicWorker.updatePredicate(BENSON::equals);
+        workerTasks.remove(0).run();
+        pulses.remove(0).run();
+
+        assertEquals(List.of(BENSON), logicWorker.getFilteredPersonList());
+        assertEquals(model.getAddressBook().getPersonList(), logicWorker.getUnfilteredPersonList());
+    }
+
+    @Test
+    public void setGuiSettings_runOnWorker() {
+        GuiSettings guiSettings = new GuiSettings(800, 600, 10, 20);
+        logicWorker.setGuiSettings(guiSettings);
+        assertNotEquals(guiSettings, model.getGuiSettings());
+
+        workerTasks.remove(0).run();
+        assertEquals(guiSettings, model.getGuiSettings());
+    }
+
+    @Test
+    public void takeUpdate_separateChanges_onlyChangedRangesReplaced() {
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+        LogicWorker.ListCopy listCopy = new LogicWorker.ListCopy(source);
+        List<Integer> changedIndices = new ArrayList<>();
+        listCopy.getReadOnlyCopy().addListener((ListChangeListener<? super Person>) change -> {
+            while (change.next()) {
+                changedIndices.add(change.getFrom());
+            }
+        });
+
+        source.set(0, AMY);
+        source.remove(DANIEL);
+        source.add(2, DANIEL);
+        Runnable update = listCopy.takeUpdate();
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), listCopy.getReadOnlyCopy());
+
+        update.run();
+        assertEquals(source, listCopy.getReadOnlyCopy());
+        assertEquals(List.of(0, 0, 3, 2), changedIndices);
+
+        listCopy.takeUpdate().run();
+        assertEquals(4, changedIndices.size());
+    }
+
+    @Test
+    public void takeUpdate_moreChangesThanPersons_copyMatchesSource() {
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON);
+        LogicWorker.ListCopy listCopy = new LogicWorker.ListCopy(source);
+
+        source.remove(ALICE);
+        source.add(CARL);
+        source.set(0, DANIEL);
+        source.add(0, ALICE);
+        listCopy.takeUpdate().run();
+        assertEquals(List.of(ALICE, DANIEL, CARL), listCopy.getReadOnlyCopy());
+    }
+
+    @Test
+    public void update_middleChanged_onlyMiddleReplaced() {
+        ObservableList<Person> target = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        List<Integer> changedIndices = new ArrayList<>();
+        target.addListener((ListChangeListener<? super Person>) change -> {
+            while (change.next()) {
+                changedIndices.add(change.getFrom());
+            }
+        });
+
+        LogicWorker.ListCopy.update(target, List.of(ALICE, DANIEL, CARL));
+        assertEquals(List.of(ALICE, DANIEL, CARL), target);
+        assertEquals(List.of(1, 1), changedIndices);
+    }
+
+    @Test
+    public void update_differentLengths_success() {
+        List<Person> target = new ArrayList<>(List.of(ALICE, BENSON));
+        LogicWorker.ListCopy.update(target, List.of(ALICE, BENSON, BENSON, CARL));
+        assertEquals(List.of(ALICE, BENSON, BENSON, CARL), target);
+
+        LogicWorker.ListCopy.update(target, List.of(CARL));
+        assertEquals(List.of(CARL), target);
+
+        LogicWorker.ListCopy.update(target, List.of());
+        assertEquals(List.of(), target);
+    }
+}
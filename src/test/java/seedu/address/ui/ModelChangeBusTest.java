@@ -0,0 +1,80 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.Person;
+
+public class ModelChangeBusTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+    private final List<Runnable> pulses = new ArrayList<>();
+    private final List<ModelChangeBus.Delta> deltas = new ArrayList<>();
+
+    public ModelChangeBusTest() {
+        new ModelChangeBus(persons, pulses::add).subscribe(deltas::add);
+    }
+
+    @Test
+    public void changes_beforePulse_dispatchedOnce() {
+        persons.add(BENSON);
+        persons.remove(ALICE);
+        persons.add(CARL);
+        assertEquals(1, pulses.size());
+        assertEquals(0, deltas.size());
+
+        pulses.remove(0).run();
+        assertEquals(1, deltas.size());
+        assertEquals(List.of(ALICE), deltas.get(0).getRemovedPersons());
+        assertEquals(List.of(BENSON, CARL), deltas.get(0).getAddedPersons());
+    }
+
+    @Test
+    public void changes_lazyPersons_notLoaded() {
+        LazyPerson lazyBenson = new LazyPerson(BENSON.getName(), BENSON.getRole(), BENSON.getModules(),
+                BENSON.getIsFavourite(), BENSON.getTelegram(), () -> {
+                    throw new AssertionError("Passing on a change should not load the person.");
+                });
+        persons.add(lazyBenson);
+        persons.remove(lazyBenson);
+        persons.add(lazyBenson);
+
+        pulses.remove(0).run();
+        assertEquals(List.of(lazyBenson), deltas.get(0).getAddedPersons());
+        assertFalse(lazyBenson.isLoaded());
+    }
+
+    @Test
+    public void changes_cancelOut_nothingDispatched() {
+        persons.add(BENSON);
+        persons.set(0, CARL);
+        persons.setAll(ALICE, BENSON);
+        persons.remove(BENSON);
+
+        pulses.remove(0).run();
+        assertEquals(0, deltas.size());
+    }
+
+    @Test
+    public void changes_afterPulse_dispatchedInNextPulse() {
+        persons.add(BENSON);
+        pulses.remove(0).run();
+        persons.add(CARL);
+
+        assertEquals(1, pulses.size());
+        pulses.remove(0).run();
+        assertEquals(2, deltas.size());
+        assertEquals(List.of(CARL), deltas.get(1).getAddedPersons());
+    }
+}
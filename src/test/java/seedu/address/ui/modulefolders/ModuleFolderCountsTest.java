@@ -0,0 +1,61 @@
+package seedu.address.ui.modulefolders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModuleFolderCountsTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").withModule("CS2103T", "CS2100")
+            .withFavourite(true).build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Choo").withModule("CS2103T").build();
+
+    private final ModuleFolderCounts counts = new ModuleFolderCounts();
+
+    @Test
+    public void add_firstPersonInModule_moduleChanged() {
+        counts.add(AMY);
+        assertEquals(Set.of("CS2103T", "CS2100"), counts.takeChangedModuleCodes());
+        assertTrue(counts.takeFavouritesChanged());
+
+        counts.add(BOB);
+        assertEquals(2, counts.getCount("CS2103T"));
+        assertEquals(Set.of(), counts.takeChangedModuleCodes());
+        assertFalse(counts.takeFavouritesChanged());
+    }
+
+    @Test
+    public void remove_lastPersonInModule_moduleChanged() {
+        counts.add(AMY);
+        counts.add(BOB);
+        counts.takeChangedModuleCodes();
+        counts.takeFavouritesChanged();
+
+        counts.remove(AMY);
+        assertEquals(Set.of("CS2100"), counts.takeChangedModuleCodes());
+        assertEquals(0, counts.getCount("CS2100"));
+        assertEquals(1, counts.getCount("CS2103T"));
+        assertTrue(counts.takeFavouritesChanged());
+        assertEquals(0, counts.getFavouriteCount());
+    }
+
+    @Test
+    public void replace_favouriteToggled_favouritesChanged() {
+        counts.add(BOB);
+        counts.takeChangedModuleCodes();
+
+        // a replacement is a removal followed by an addition
+        counts.remove(BOB);
+        counts.add(BOB.toggleFav());
+        assertEquals(1, counts.getFavouriteCount());
+        assertTrue(counts.takeFavouritesChanged());
+        assertEquals(1, counts.getCount("CS2103T"));
+    }
+}